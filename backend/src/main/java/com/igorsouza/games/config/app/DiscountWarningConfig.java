@@ -0,0 +1,23 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.discount-warning")
+public class DiscountWarningConfig {
+    private int subscriberPageSize = 500;
+    private int partitionSize = 100;
+    private int steamConcurrency = 2;
+    private int epicConcurrency = 4;
+    private int shardCount = 8;
+    private Duration leaseDuration = Duration.ofMinutes(15);
+    private Duration leaseSweepInterval = Duration.ofMinutes(5);
+    private Duration leaseRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,17 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.epic")
+public class EpicConfig {
+    private String locale = "pt-BR";
+    private String country = "BR";
+    private int batchSize = 20;
+    private int pageSize = 10;
+}
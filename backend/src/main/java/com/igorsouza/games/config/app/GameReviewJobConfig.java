@@ -0,0 +1,23 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.review-jobs")
+public class GameReviewJobConfig {
+    private int workers = 2;
+    private int queueCapacity = 100;
+    private Duration claimTimeout = Duration.ofMinutes(10);
+    private Duration sweepInterval = Duration.ofMinutes(1);
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,21 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientConfig {
+    private int maxConnections = 100;
+    private int maxConnectionsPerHost = 20;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration poolTimeout = Duration.ofSeconds(2);
+    private Duration keepAlive = Duration.ofSeconds(30);
+}
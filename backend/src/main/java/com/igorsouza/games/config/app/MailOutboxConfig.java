@@ -0,0 +1,24 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.mail-outbox")
+public class MailOutboxConfig {
+    private int workers = 4;
+    private int batchSize = 200;
+    private int messagesPerConnection = 50;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration claimTimeout = Duration.ofMinutes(5);
+    private int maxAttempts = 6;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    private Duration sentRetention = Duration.ofDays(7);
+}
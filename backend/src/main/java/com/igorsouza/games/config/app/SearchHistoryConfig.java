@@ -0,0 +1,19 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.search-history")
+public class SearchHistoryConfig {
+    private int queueCapacity = 10000;
+    private int batchSize = 100;
+    private Duration flushInterval = Duration.ofSeconds(2);
+    private Duration enqueueTimeout = Duration.ofMillis(50);
+}
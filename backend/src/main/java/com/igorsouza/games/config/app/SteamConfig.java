@@ -0,0 +1,25 @@
+package com.igorsouza.games.config.app;
+
+import com.igorsouza.games.enums.SteamDetailsFetchMode;
+import com.igorsouza.games.enums.SteamSearchMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.steam")
+public class SteamConfig {
+    private String country = "br";
+    private String language = "portuguese";
+    private SteamSearchMode searchMode = SteamSearchMode.SUMMARY;
+    private SteamDetailsFetchMode detailsFetchMode = SteamDetailsFetchMode.PARALLEL;
+    private int detailsConcurrency = 8;
+    private Duration searchTimeout = Duration.ofSeconds(5);
+    private int pricesBatchSize = 100;
+    private int pageSize = 10;
+}
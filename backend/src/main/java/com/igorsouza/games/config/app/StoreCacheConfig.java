@@ -0,0 +1,19 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.store-cache")
+public class StoreCacheConfig {
+    private long maximumSize = 10000;
+    private Duration priceTtl = Duration.ofHours(1);
+    private Duration metadataTtl = Duration.ofHours(24);
+    private Duration lastKnownTtl = Duration.ofDays(7);
+}
@@ -0,0 +1,34 @@
+package com.igorsouza.games.config.app;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app")
+public class UpstreamConfig {
+    private Map<String, Upstream> upstreams = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private String host;
+        private double requestsPerSecond = 5;
+        private int burst = 10;
+        private int maxConcurrency = 8;
+        private Duration acquireTimeout = Duration.ofSeconds(10);
+        private double interactiveShare = 0.25;
+        private int maxRetries = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private int circuitFailureThreshold = 5;
+        private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    }
+}
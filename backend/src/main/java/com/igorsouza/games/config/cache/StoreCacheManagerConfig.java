@@ -0,0 +1,49 @@
+package com.igorsouza.games.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.igorsouza.games.config.app.StoreCacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+public class StoreCacheManagerConfig {
+
+    public static final String STEAM_SEARCH = "steam-search";
+    public static final String STEAM_GAME_DETAILS = "steam-game-details";
+    public static final String STEAM_GAME_PRICES = "steam-game-prices";
+    public static final String EPIC_SEARCH = "epic-search";
+    public static final String EPIC_GAME_DETAILS = "epic-game-details";
+    public static final String EPIC_GAME_PRICES = "epic-game-prices";
+    public static final String LAST_KNOWN_GAMES = "last-known-games";
+    public static final String DISCOUNT_EMAIL_ROWS = "discount-email-rows";
+
+    private final StoreCacheConfig storeCacheConfig;
+
+    @Bean
+    public CacheManager storeCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(STEAM_SEARCH, buildCache(storeCacheConfig.getPriceTtl()));
+        cacheManager.registerCustomCache(STEAM_GAME_DETAILS, buildCache(storeCacheConfig.getMetadataTtl()));
+        cacheManager.registerCustomCache(STEAM_GAME_PRICES, buildCache(storeCacheConfig.getPriceTtl()));
+        cacheManager.registerCustomCache(EPIC_SEARCH, buildCache(storeCacheConfig.getPriceTtl()));
+        cacheManager.registerCustomCache(EPIC_GAME_DETAILS, buildCache(storeCacheConfig.getMetadataTtl()));
+        cacheManager.registerCustomCache(EPIC_GAME_PRICES, buildCache(storeCacheConfig.getPriceTtl()));
+        cacheManager.registerCustomCache(LAST_KNOWN_GAMES, buildCache(storeCacheConfig.getLastKnownTtl()));
+        cacheManager.registerCustomCache(DISCOUNT_EMAIL_ROWS, buildCache(storeCacheConfig.getMetadataTtl()));
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(storeCacheConfig.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.igorsouza.games.config.http;
+
+import com.igorsouza.games.config.app.HttpClientConfig;
+import com.igorsouza.games.services.integrations.upstream.UpstreamThrottlingInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+@RequiredArgsConstructor
+public class RestTemplateConfig {
+
+    private final HttpClientConfig httpClientConfig;
+
+    @Bean
+    public PoolingHttpClientConnectionManager storeConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(httpClientConfig.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(httpClientConfig.getReadTimeout()))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClientConfig.getMaxConnections())
+                .setMaxConnPerRoute(httpClientConfig.getMaxConnectionsPerHost())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient storeHttpClient(PoolingHttpClientConnectionManager storeConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(httpClientConfig.getPoolTimeout()))
+                .setResponseTimeout(Timeout.of(httpClientConfig.getReadTimeout()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(storeConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(httpClientConfig.getKeepAlive()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate storeRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            CloseableHttpClient storeHttpClient,
+            UpstreamThrottlingInterceptor upstreamThrottlingInterceptor
+    ) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(storeHttpClient))
+                .additionalInterceptors(upstreamThrottlingInterceptor)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder storeConnectionPoolMetrics(PoolingHttpClientConnectionManager storeConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(storeConnectionManager, "store");
+    }
+}
@@ -1,39 +1,56 @@
 package com.igorsouza.games.controllers;
 
 import com.igorsouza.games.dtos.games.CreateReview;
+import com.igorsouza.games.dtos.games.GamesPage;
 import com.igorsouza.games.dtos.games.GenericGame;
 import com.igorsouza.games.dtos.games.Review;
+import com.igorsouza.games.dtos.games.ReviewJob;
 import com.igorsouza.games.dtos.games.UpdateReview;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
 import com.igorsouza.games.services.games.GameService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/games")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = GamesController.NEXT_CURSOR_HEADER)
 public class GamesController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final GameService gameService;
 
     @GetMapping("/steam")
-    public ResponseEntity<List<GenericGame>> getGames(@RequestParam String gameName) throws UnauthorizedException {
-        List<GenericGame> games = gameService.getSteamGames(gameName);
-        return ResponseEntity.ok(games);
+    public ResponseEntity<List<GenericGame>> getGames(@RequestParam String gameName,
+                                                      @RequestParam(required = false) String cursor)
+            throws UnauthorizedException, BadRequestException {
+        GamesPage gamesPage = gameService.getSteamGames(gameName, cursor);
+        return getGamesPageResponse(gamesPage);
     }
 
     @GetMapping("/epic")
-    public ResponseEntity<List<GenericGame>> getEpicGamesStoreGames(@RequestParam String gameName) throws UnauthorizedException {
-        List<GenericGame> games = gameService.getEpicStoreGames(gameName);
-        return ResponseEntity.ok(games);
+    public ResponseEntity<List<GenericGame>> getEpicGamesStoreGames(@RequestParam String gameName,
+                                                                    @RequestParam(required = false) String cursor)
+            throws UnauthorizedException, BadRequestException {
+        GamesPage gamesPage = gameService.getEpicStoreGames(gameName, cursor);
+        return getGamesPageResponse(gamesPage);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter searchGames(@RequestParam String gameName) throws UnauthorizedException {
+        return gameService.searchGames(gameName);
     }
 
     @GetMapping("/review")
@@ -43,10 +60,17 @@ public class GamesController {
     }
 
     @PostMapping("/generate-review")
-    public ResponseEntity<Review> generateGameReview(@RequestParam String gameName)
-            throws ConflictException, InterruptedException {
-        Review review = gameService.generateGameReview(gameName);
-        return ResponseEntity.ok(review);
+    public ResponseEntity<ReviewJob> generateGameReview(@RequestParam String gameName) throws ConflictException {
+        ReviewJob reviewJob = gameService.generateGameReview(gameName);
+        return ResponseEntity.accepted()
+                .location(URI.create("/games/review-jobs/" + reviewJob.getId()))
+                .body(reviewJob);
+    }
+
+    @GetMapping("/review-jobs/{jobId}")
+    public ResponseEntity<ReviewJob> getGameReviewJob(@PathVariable UUID jobId) throws NotFoundException {
+        ReviewJob reviewJob = gameService.getGameReviewJob(jobId);
+        return ResponseEntity.ok(reviewJob);
     }
 
     @PostMapping("/review")
@@ -70,4 +94,14 @@ public class GamesController {
         gameService.deleteGameReview(reviewId);
         return ResponseEntity.ok("Review successfully deleted.");
     }
+
+    private ResponseEntity<List<GenericGame>> getGamesPageResponse(GamesPage gamesPage) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (gamesPage.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, gamesPage.getNextCursor());
+        }
+
+        return response.body(gamesPage.getGames());
+    }
 }
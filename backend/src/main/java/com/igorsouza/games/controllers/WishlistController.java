@@ -2,6 +2,7 @@ package com.igorsouza.games.controllers;
 
 import com.igorsouza.games.dtos.games.GenericGame;
 import com.igorsouza.games.dtos.games.WishlistGame;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
@@ -27,13 +28,15 @@ public class WishlistController {
     }
 
     @PostMapping
-    public ResponseEntity<String> addGameToWishlist(@RequestBody WishlistGame game) throws ConflictException, UnauthorizedException {
+    public ResponseEntity<String> addGameToWishlist(@RequestBody WishlistGame game)
+            throws BadRequestException, ConflictException, UnauthorizedException {
         wishlistService.addGame(game);
         return ResponseEntity.ok().body("Game successfully added to the wishlist.");
     }
 
     @DeleteMapping
-    public ResponseEntity<String> removeGameFromWishlist(@RequestBody WishlistGame game) throws NotFoundException, UnauthorizedException {
+    public ResponseEntity<String> removeGameFromWishlist(@RequestBody WishlistGame game)
+            throws BadRequestException, NotFoundException, UnauthorizedException {
         wishlistService.removeGame(game);
         return ResponseEntity.ok().body("Game successfully removed from the wishlist.");
     }
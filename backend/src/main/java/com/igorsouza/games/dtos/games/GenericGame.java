@@ -19,4 +19,5 @@ public class GenericGame {
     private double initialPrice;
     private double discountPrice;
     private int discountPercent;
+    private boolean stale;
 }
@@ -0,0 +1,21 @@
+package com.igorsouza.games.dtos.games;
+
+import com.igorsouza.games.enums.GameReviewJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewJob {
+    private UUID id;
+    private String gameName;
+    private GameReviewJobStatus status;
+    private Review review;
+    private String error;
+}
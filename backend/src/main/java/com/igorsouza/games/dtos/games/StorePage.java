@@ -0,0 +1,17 @@
+package com.igorsouza.games.dtos.games;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorePage<T> {
+    private List<T> items;
+    private boolean hasMore;
+}
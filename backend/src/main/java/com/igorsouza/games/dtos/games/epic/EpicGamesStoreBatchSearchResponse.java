@@ -0,0 +1,12 @@
+package com.igorsouza.games.dtos.games.epic;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EpicGamesStoreBatchSearchResponse {
+    private EpicGamesStoreBatchSearchResponseData data;
+}
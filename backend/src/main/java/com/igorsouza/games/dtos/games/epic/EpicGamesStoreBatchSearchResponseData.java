@@ -0,0 +1,16 @@
+package com.igorsouza.games.dtos.games.epic;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EpicGamesStoreBatchSearchResponseData {
+    @JsonProperty("Catalog")
+    private Map<String, EpicGamesStoreSearchStore> catalog;
+}
@@ -10,6 +10,8 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 public class EpicGamesStoreGame {
+    private String id;
+    private String namespace;
     private String title;
     private String productSlug;
     private String urlSlug;
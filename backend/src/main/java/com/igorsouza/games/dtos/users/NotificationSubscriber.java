@@ -0,0 +1,17 @@
+package com.igorsouza.games.dtos.users;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSubscriber {
+    private UUID id;
+    private String email;
+}
@@ -0,0 +1,7 @@
+package com.igorsouza.games.enums;
+
+public enum CircuitBreakerState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,8 @@
+package com.igorsouza.games.enums;
+
+public enum GameReviewJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.igorsouza.games.enums;
+
+import java.util.List;
+
+public enum SearchScope {
+    STEAM(List.of(GamePlatform.STEAM)),
+    EPIC(List.of(GamePlatform.EPIC)),
+    ALL(List.of(GamePlatform.STEAM, GamePlatform.EPIC));
+
+    private final List<GamePlatform> platforms;
+
+    SearchScope(List<GamePlatform> platforms) {
+        this.platforms = platforms;
+    }
+
+    public List<GamePlatform> getPlatforms() {
+        return platforms;
+    }
+}
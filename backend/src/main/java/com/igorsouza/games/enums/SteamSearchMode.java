@@ -0,0 +1,6 @@
+package com.igorsouza.games.enums;
+
+public enum SteamSearchMode {
+    SUMMARY,
+    DETAILS
+}
@@ -3,6 +3,7 @@ package com.igorsouza.games.handlers;
 import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
+import com.igorsouza.games.exceptions.ServiceUnavailableException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -42,4 +43,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getStatus())
                 .body(e.getMessage());
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> serviceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(e.getStatus())
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,23 @@
+package com.igorsouza.games.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "discount_run_deliveries")
+public class DiscountRunDelivery {
+
+    @EmbeddedId
+    private DiscountRunDeliveryId id;
+
+    @CreationTimestamp
+    private Date createdAt;
+}
@@ -0,0 +1,22 @@
+package com.igorsouza.games.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class DiscountRunDeliveryId implements Serializable {
+
+    @Column(name = "run_key", nullable = false)
+    private String runKey;
+
+    @Column(name = "email", nullable = false)
+    private String email;
+}
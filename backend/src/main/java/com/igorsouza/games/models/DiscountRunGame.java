@@ -0,0 +1,57 @@
+package com.igorsouza.games.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "discount_run_games")
+public class DiscountRunGame implements Persistable<DiscountRunGameId> {
+
+    @EmbeddedId
+    private DiscountRunGameId id;
+
+    @Column(nullable = false)
+    private boolean discounted;
+
+    private String gameIdentifier;
+
+    private String title;
+
+    @Column(length = 1024)
+    private String url;
+
+    @Column(length = 1024)
+    private String image;
+
+    private Double initialPrice;
+
+    private Double discountPrice;
+
+    private Integer discountPercent;
+
+    @CreationTimestamp
+    private Date createdAt;
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
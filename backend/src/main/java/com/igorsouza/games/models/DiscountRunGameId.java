@@ -0,0 +1,29 @@
+package com.igorsouza.games.models;
+
+import com.igorsouza.games.enums.GamePlatform;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class DiscountRunGameId implements Serializable {
+
+    @Column(name = "run_key", nullable = false)
+    private String runKey;
+
+    @Column(name = "platform_identifier", nullable = false)
+    private String platformIdentifier;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "platform", nullable = false)
+    private GamePlatform platform;
+}
@@ -0,0 +1,29 @@
+package com.igorsouza.games.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "epic_catalog_offers")
+public class EpicCatalogOffer {
+
+    @Id
+    private String identifier;
+
+    @Column(nullable = false)
+    private String namespace;
+
+    @Column(nullable = false)
+    private String offerId;
+
+    @UpdateTimestamp
+    private Date updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.igorsouza.games.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "game_notifications")
+public class GameNotification {
+
+    @EmbeddedId
+    private GameId id;
+
+    @Column(nullable = false)
+    private int discountPercent;
+
+    @UpdateTimestamp
+    private Date notifiedAt;
+}
@@ -0,0 +1,55 @@
+package com.igorsouza.games.models;
+
+import com.igorsouza.games.enums.GameReviewJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "game_review_jobs", indexes = {
+        @Index(columnList = "status, createdAt"),
+        @Index(columnList = "gameName")
+})
+public class GameReviewJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String gameName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GameReviewJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private Instant claimedUntil;
+
+    private UUID claimToken;
+
+    private Instant nextAttemptAt;
+
+    private UUID reviewId;
+
+    @Column(length = 1000)
+    private String error;
+
+    @CreationTimestamp
+    private Date createdAt;
+
+    @UpdateTimestamp
+    private Date updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.igorsouza.games.models;
+
+import com.igorsouza.games.enums.MailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "mail_outbox", indexes = @Index(columnList = "status, nextAttemptAt"))
+public class MailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String html;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    private UUID claimToken;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private Instant sentAt;
+
+    @CreationTimestamp
+    private Date createdAt;
+}
@@ -0,0 +1,39 @@
+package com.igorsouza.games.models;
+
+import com.igorsouza.games.enums.SchedulerLeaseStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String runKey;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SchedulerLeaseStatus status;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Version
+    private Long version;
+}
@@ -3,7 +3,6 @@ package com.igorsouza.games.models;
 import com.igorsouza.games.enums.GamePlatform;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.util.Date;
 import java.util.UUID;
@@ -31,6 +30,6 @@ public class UserGameSearch {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private Date createdAt;
 }
@@ -0,0 +1,24 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.models.DiscountRunDelivery;
+import com.igorsouza.games.models.DiscountRunDeliveryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface DiscountRunDeliveryRepository extends JpaRepository<DiscountRunDelivery, DiscountRunDeliveryId> {
+    List<DiscountRunDelivery> findAllByIdRunKeyAndIdEmailIn(String runKey, Collection<String> emails);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DiscountRunDelivery d where d.createdAt < :createdAt")
+    int deleteAllCreatedBefore(@Param("createdAt") Date createdAt);
+}
@@ -0,0 +1,26 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.models.DiscountRunGame;
+import com.igorsouza.games.models.DiscountRunGameId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface DiscountRunGameRepository extends JpaRepository<DiscountRunGame, DiscountRunGameId> {
+    List<DiscountRunGame> findAllByIdRunKeyAndIdPlatformAndIdPlatformIdentifierIn(String runKey, GamePlatform platform,
+                                                                                  Collection<String> identifiers);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DiscountRunGame g where g.createdAt < :createdAt")
+    int deleteAllCreatedBefore(@Param("createdAt") Date createdAt);
+}
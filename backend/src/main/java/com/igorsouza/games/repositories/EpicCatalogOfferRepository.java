@@ -0,0 +1,9 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.models.EpicCatalogOffer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EpicCatalogOfferRepository extends JpaRepository<EpicCatalogOffer, String> {
+}
@@ -0,0 +1,26 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.models.GameId;
+import com.igorsouza.games.models.GameNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public interface GameNotificationRepository extends JpaRepository<GameNotification, GameId> {
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from GameNotification n
+            where n.id.platform = :platform and n.id.platformIdentifier in :identifiers
+            """)
+    int deleteAllByPlatformIdentifiers(@Param("platform") GamePlatform platform,
+                                       @Param("identifiers") Collection<String> identifiers);
+}
@@ -0,0 +1,95 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.enums.GameReviewJobStatus;
+import com.igorsouza.games.models.GameReviewJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface GameReviewJobRepository extends JpaRepository<GameReviewJob, UUID> {
+    Optional<GameReviewJob> findFirstByGameNameAndStatusIn(String gameName, Collection<GameReviewJobStatus> statuses);
+
+    @Query("""
+            select j.id from GameReviewJob j
+            where j.status = com.igorsouza.games.enums.GameReviewJobStatus.PENDING
+            and (j.nextAttemptAt is null or j.nextAttemptAt <= :now)
+            order by j.createdAt
+            """)
+    List<UUID> findDueIds(@Param("now") Instant now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GameReviewJob j
+            set j.status = com.igorsouza.games.enums.GameReviewJobStatus.RUNNING,
+            j.claimToken = :claimToken, j.claimedUntil = :claimedUntil
+            where j.id = :id and j.status = com.igorsouza.games.enums.GameReviewJobStatus.PENDING
+            and (j.nextAttemptAt is null or j.nextAttemptAt <= :now)
+            """)
+    int claim(@Param("id") UUID id, @Param("claimToken") UUID claimToken, @Param("claimedUntil") Instant claimedUntil,
+              @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GameReviewJob j
+            set j.status = com.igorsouza.games.enums.GameReviewJobStatus.COMPLETED, j.reviewId = :reviewId,
+            j.error = null, j.claimToken = null, j.claimedUntil = null, j.updatedAt = current_timestamp
+            where j.id = :id and j.claimToken = :claimToken
+            """)
+    int markCompleted(@Param("id") UUID id, @Param("claimToken") UUID claimToken, @Param("reviewId") UUID reviewId);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GameReviewJob j
+            set j.status = :status, j.attempts = :attempts, j.error = :error, j.nextAttemptAt = :nextAttemptAt,
+            j.claimToken = null, j.claimedUntil = null, j.updatedAt = current_timestamp
+            where j.id = :id and j.claimToken = :claimToken
+            """)
+    int markAttemptFailed(@Param("id") UUID id, @Param("claimToken") UUID claimToken,
+                          @Param("status") GameReviewJobStatus status, @Param("attempts") int attempts,
+                          @Param("error") String error, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GameReviewJob j
+            set j.status = com.igorsouza.games.enums.GameReviewJobStatus.PENDING, j.claimToken = null,
+            j.claimedUntil = null
+            where j.id = :id and j.claimToken = :claimToken
+            """)
+    int release(@Param("id") UUID id, @Param("claimToken") UUID claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GameReviewJob j
+            set j.status = com.igorsouza.games.enums.GameReviewJobStatus.PENDING, j.claimToken = null,
+            j.claimedUntil = null
+            where j.status = com.igorsouza.games.enums.GameReviewJobStatus.RUNNING and j.claimedUntil < :now
+            """)
+    int releaseExpiredClaims(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from GameReviewJob j
+            where j.status in (com.igorsouza.games.enums.GameReviewJobStatus.COMPLETED,
+            com.igorsouza.games.enums.GameReviewJobStatus.FAILED)
+            and j.updatedAt < :updatedBefore
+            """)
+    int deleteAllFinishedBefore(@Param("updatedBefore") Date updatedBefore);
+}
@@ -4,11 +4,29 @@ import com.igorsouza.games.models.Game;
 import com.igorsouza.games.models.GameId;
 import com.igorsouza.games.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface GamesRepository extends JpaRepository<Game, GameId> {
     List<Game> findAllByUser(User user);
+
+    @Query("select g.id from Game g where g.id.userId in :userIds")
+    List<GameId> findAllIdsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("""
+            select g.id from Game g
+            join DiscountRunGame r on r.id.platform = g.id.platform
+            and r.id.platformIdentifier = g.id.platformIdentifier
+            left join GameNotification n on n.id.userId = g.id.userId
+            and n.id.platform = g.id.platform and n.id.platformIdentifier = g.id.platformIdentifier
+            where r.id.runKey = :runKey and r.discounted = true and g.id.userId in :userIds
+            and (n.id.userId is null or n.discountPercent < r.discountPercent)
+            """)
+    List<GameId> findAllIdsToNotify(@Param("runKey") String runKey, @Param("userIds") Collection<UUID> userIds);
 }
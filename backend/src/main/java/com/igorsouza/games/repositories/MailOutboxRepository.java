@@ -0,0 +1,80 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.enums.MailOutboxStatus;
+import com.igorsouza.games.models.MailOutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, UUID> {
+    long countByStatus(MailOutboxStatus status);
+
+    List<MailOutboxMessage> findAllByClaimToken(UUID claimToken);
+
+    @Query("""
+            select m.id from MailOutboxMessage m
+            where m.status = com.igorsouza.games.enums.MailOutboxStatus.PENDING and m.nextAttemptAt <= :now
+            order by m.nextAttemptAt
+            """)
+    List<UUID> findDueIds(@Param("now") Instant now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutboxMessage m
+            set m.status = com.igorsouza.games.enums.MailOutboxStatus.SENDING,
+            m.claimToken = :claimToken, m.nextAttemptAt = :claimedUntil
+            where m.id in :ids and m.status = com.igorsouza.games.enums.MailOutboxStatus.PENDING
+            """)
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimToken") UUID claimToken,
+              @Param("claimedUntil") Instant claimedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutboxMessage m
+            set m.status = com.igorsouza.games.enums.MailOutboxStatus.SENT, m.sentAt = :sentAt, m.claimToken = null
+            where m.id in :ids and m.claimToken = :claimToken
+            """)
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("claimToken") UUID claimToken,
+                 @Param("sentAt") Instant sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutboxMessage m
+            set m.status = :status, m.attempts = :attempts, m.lastError = :lastError,
+            m.nextAttemptAt = :nextAttemptAt, m.claimToken = null
+            where m.id = :id and m.claimToken = :claimToken
+            """)
+    int markAttemptFailed(@Param("id") UUID id, @Param("claimToken") UUID claimToken,
+                          @Param("status") MailOutboxStatus status, @Param("attempts") int attempts,
+                          @Param("lastError") String lastError, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutboxMessage m
+            set m.status = com.igorsouza.games.enums.MailOutboxStatus.PENDING, m.claimToken = null
+            where m.status = com.igorsouza.games.enums.MailOutboxStatus.SENDING and m.nextAttemptAt < :now
+            """)
+    int releaseExpiredClaims(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from MailOutboxMessage m
+            where m.status = com.igorsouza.games.enums.MailOutboxStatus.SENT and m.sentAt < :sentBefore
+            """)
+    int deleteAllSentBefore(@Param("sentBefore") Instant sentBefore);
+}
@@ -0,0 +1,23 @@
+package com.igorsouza.games.repositories;
+
+import com.igorsouza.games.enums.SchedulerLeaseStatus;
+import com.igorsouza.games.models.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    List<SchedulerLease> findAllByStatusAndExpiresAtBefore(SchedulerLeaseStatus status, Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SchedulerLease l where l.expiresAt < :expiresAt")
+    int deleteAllExpiredBefore(@Param("expiresAt") Instant expiresAt);
+}
@@ -1,7 +1,11 @@
 package com.igorsouza.games.repositories;
 
+import com.igorsouza.games.dtos.users.NotificationSubscriber;
 import com.igorsouza.games.models.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +15,12 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
-    List<User> findAllByEmailVerifiedTrueAndNotificationsEnabledTrue();
+
+    @Query("""
+            select new com.igorsouza.games.dtos.users.NotificationSubscriber(u.id, u.email) from User u
+            where u.emailVerified = true and u.notificationsEnabled = true and u.id > :afterId and u.id <= :lastId
+            order by u.id
+            """)
+    List<NotificationSubscriber> findNotificationSubscribers(@Param("afterId") UUID afterId,
+                                                             @Param("lastId") UUID lastId, Limit limit);
 }
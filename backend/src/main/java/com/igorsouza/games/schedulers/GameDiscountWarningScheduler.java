@@ -1,53 +1,345 @@
 package com.igorsouza.games.schedulers;
 
+import com.igorsouza.games.config.app.DiscountWarningConfig;
 import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.dtos.users.NotificationSubscriber;
 import com.igorsouza.games.enums.GamePlatform;
-import com.igorsouza.games.models.Game;
-import com.igorsouza.games.models.User;
+import com.igorsouza.games.enums.RequestPriority;
+import com.igorsouza.games.models.GameId;
+import com.igorsouza.games.models.SchedulerLease;
 import com.igorsouza.games.services.games.GameService;
+import com.igorsouza.games.services.integrations.upstream.UpstreamRequestPriority;
 import com.igorsouza.games.services.mail.MailService;
+import com.igorsouza.games.services.scheduling.DiscountRunService;
+import com.igorsouza.games.services.scheduling.SchedulerLeaseService;
 import com.igorsouza.games.services.users.UserService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class GameDiscountWarningScheduler {
 
+    private static final BigInteger SUBSCRIBER_ID_SPACE = BigInteger.ONE.shiftLeft(64);
+    private static final UUID LAST_SUBSCRIBER_ID = new UUID(-1L, -1L);
+
     private final UserService userService;
     private final GameService gameService;
     private final MailService mailService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final DiscountRunService discountRunService;
+    private final DiscountWarningConfig discountWarningConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService partitionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<GamePlatform, Semaphore> platformPermits;
+    private final AtomicInteger totalPartitions = new AtomicInteger();
+    private final AtomicInteger completedPartitions = new AtomicInteger();
+    private final AtomicInteger failedPartitions = new AtomicInteger();
+    private final AtomicInteger enqueuedMails = new AtomicInteger();
+
+    private volatile boolean shuttingDown = false;
+
+    public GameDiscountWarningScheduler(UserService userService, GameService gameService, MailService mailService,
+                                        SchedulerLeaseService schedulerLeaseService,
+                                        DiscountRunService discountRunService,
+                                        DiscountWarningConfig discountWarningConfig,
+                                        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.gameService = gameService;
+        this.mailService = mailService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.discountRunService = discountRunService;
+        this.discountWarningConfig = discountWarningConfig;
+        this.transactionTemplate = transactionTemplate;
+        this.platformPermits = Map.of(
+                GamePlatform.STEAM, new Semaphore(discountWarningConfig.getSteamConcurrency()),
+                GamePlatform.EPIC, new Semaphore(discountWarningConfig.getEpicConcurrency())
+        );
+
+        registerProgressGauge(meterRegistry, "discount.warning.partitions", "total", totalPartitions);
+        registerProgressGauge(meterRegistry, "discount.warning.partitions", "completed", completedPartitions);
+        registerProgressGauge(meterRegistry, "discount.warning.partitions", "failed", failedPartitions);
+        registerProgressGauge(meterRegistry, "discount.warning.mails", "enqueued", enqueuedMails);
+    }
 
     @Scheduled(fixedRate = 86400000, initialDelay = 0, zone = "America/Sao_Paulo")
     public void sendGameDiscountWarningMail() {
-        List<User> users = userService.getUsersWithVerifiedEmailAndEnabledNotifications();
+        String runKey = "discount-warning:" + LocalDate.now(ZoneId.of("America/Sao_Paulo"));
+        runShards(runKey, IntStream.range(0, discountWarningConfig.getShardCount()).boxed().toList());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.discount-warning.lease-sweep-interval}",
+            initialDelayString = "${app.discount-warning.lease-sweep-interval}"
+    )
+    public void sweepOrphanedShards() {
+        Instant retentionLimit = Instant.now().minus(discountWarningConfig.getLeaseRetention());
+        schedulerLeaseService.deleteExpiredBefore(retentionLimit);
+        discountRunService.deleteCreatedBefore(retentionLimit);
+
+        Map<String, List<Integer>> expiredShardsByRunKey = new TreeMap<>();
+
+        for (SchedulerLease lease : schedulerLeaseService.getExpiredLeases()) {
+            expiredShardsByRunKey.computeIfAbsent(lease.getRunKey(), runKey -> new ArrayList<>()).add(lease.getShard());
+        }
 
-        for (User user : users) {
-            List<Game> userGames = gameService.getGamesByUser(user);
-            List<GenericGame> gamesWithDiscount = new ArrayList<>();
+        expiredShardsByRunKey.forEach(this::runShards);
+    }
+
+    @PreDestroy
+    public void shutdownPartitionExecutor() {
+        shuttingDown = true;
+        partitionExecutor.shutdownNow();
+    }
+
+    private void runShards(String runKey, List<Integer> shards) {
+        boolean progressReset = false;
+
+        for (int shard : shards) {
+            if (shuttingDown) return;
+
+            if (!schedulerLeaseService.tryAcquire(runKey, shard, discountWarningConfig.getLeaseDuration())) {
+                continue;
+            }
+
+            if (!progressReset) {
+                resetProgress();
+                progressReset = true;
+            }
 
-            for (Game game : userGames) {
-                GamePlatform gamePlatform = game.getPlatform();
-                GenericGame genericGame = gamePlatform.equals(GamePlatform.STEAM)
-                        ? gameService.getSteamGameById(game.getPlatformIdentifier())
-                        : gameService.getEpicStoreGameById(game.getPlatformIdentifier());
+            List<Future<?>> tasks = new ArrayList<>();
+            int failedBefore = failedPartitions.get();
 
-                if (genericGame.getDiscountPercent() > 0) {
-                    gamesWithDiscount.add(genericGame);
+            try {
+                if (!sendDiscountWarningMailToShard(runKey, shard, tasks)) continue;
+
+                int failedInShard = failedPartitions.get() - failedBefore;
+
+                if (failedInShard == 0) {
+                    schedulerLeaseService.complete(runKey, shard);
+                } else {
+                    schedulerLeaseService.release(runKey, shard);
+                    log.warn("Discount warning shard {} of {} had {} failed partitions and will be retried by the sweep.",
+                            shard, runKey, failedInShard);
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(task -> task.cancel(true));
+                log.warn("Discount warning shard {} of {} was cancelled after {}/{} partitions.",
+                        shard, runKey, completedPartitions.get(), totalPartitions.get());
+                return;
+            } catch (LeaseLostException e) {
+                tasks.forEach(task -> task.cancel(true));
+                log.warn("Lost the lease for shard {} of {}, leaving it to its new owner.", shard, runKey);
+            } catch (RuntimeException e) {
+                log.warn("Discount warning shard {} of {} failed and will be retried once its lease expires: {}",
+                        shard, runKey, e.getMessage());
+            }
+        }
+    }
+
+    private boolean sendDiscountWarningMailToShard(String runKey, int shard, List<Future<?>> tasks)
+            throws InterruptedException {
+        int pageSize = discountWarningConfig.getSubscriberPageSize();
+        UUID afterId = getShardBoundary(shard);
+        UUID lastId = getShardBoundary(shard + 1);
+        List<NotificationSubscriber> subscribers;
+
+        do {
+            if (shuttingDown) return false;
+
+            subscribers = userService.getNotificationSubscribers(afterId, lastId, pageSize);
+            if (subscribers.isEmpty()) break;
+
+            afterId = subscribers.getLast().getId();
+            Map<UUID, String> shardSubscribers = new LinkedHashMap<>();
+
+            for (NotificationSubscriber subscriber : subscribers) {
+                shardSubscribers.put(subscriber.getId(), subscriber.getEmail());
             }
 
-            if (!gamesWithDiscount.isEmpty()) {
+            Map<String, Map<GameId, GenericGame>> gamesWithDiscountByEmail =
+                    getGamesWithDiscountByEmail(runKey, shard, shardSubscribers, tasks);
+            renewLease(runKey, shard);
+            enqueueMails(runKey, gamesWithDiscountByEmail);
+        } while (subscribers.size() == pageSize);
+
+        if (shuttingDown) return false;
+
+        log.info("Discount warning shard {} of {} finished: {}/{} partitions failed, {} mails enqueued.",
+                shard, runKey, failedPartitions.get(), totalPartitions.get(), enqueuedMails.get());
+        return true;
+    }
+
+    private Map<String, Map<GameId, GenericGame>> getGamesWithDiscountByEmail(
+            String runKey,
+            int shard,
+            Map<UUID, String> subscribers,
+            List<Future<?>> tasks) throws InterruptedException {
+        List<GameId> gameIds = gameService.getGameIdsByUsers(subscribers.keySet());
+        List<Future<Map<String, GenericGame>>> steamPartitions =
+                submitPartitions(runKey, GamePlatform.STEAM, gameIds, gameService::getDiscountedSteamGames);
+        List<Future<Map<String, GenericGame>>> epicPartitions =
+                submitPartitions(runKey, GamePlatform.EPIC, gameIds, gameService::getDiscountedEpicStoreGames);
+        tasks.addAll(steamPartitions);
+        tasks.addAll(epicPartitions);
+        totalPartitions.addAndGet(steamPartitions.size() + epicPartitions.size());
+
+        Map<GamePlatform, Map<String, GenericGame>> discountedGames = Map.of(
+                GamePlatform.STEAM, awaitPartitions(runKey, shard, steamPartitions),
+                GamePlatform.EPIC, awaitPartitions(runKey, shard, epicPartitions)
+        );
+        Map<String, Map<GameId, GenericGame>> gamesWithDiscountByEmail = new LinkedHashMap<>();
+
+        for (GameId gameId : discountRunService.getGameIdsToNotify(runKey, subscribers.keySet())) {
+            GenericGame game = discountedGames.get(gameId.getPlatform()).get(gameId.getPlatformIdentifier());
+            if (game == null) continue;
+
+            gamesWithDiscountByEmail
+                    .computeIfAbsent(subscribers.get(gameId.getUserId()), email -> new LinkedHashMap<>())
+                    .put(gameId, game);
+        }
+
+        return gamesWithDiscountByEmail;
+    }
+
+    private List<Future<Map<String, GenericGame>>> submitPartitions(
+            String runKey,
+            GamePlatform platform,
+            List<GameId> gameIds,
+            Function<Collection<String>, Map<String, GenericGame>> getDiscountedGames) {
+        List<String> identifiers = gameIds.stream()
+                .filter(gameId -> gameId.getPlatform() == platform)
+                .map(GameId::getPlatformIdentifier)
+                .distinct()
+                .toList();
+        List<Future<Map<String, GenericGame>>> partitions = new ArrayList<>();
+        int partitionSize = discountWarningConfig.getPartitionSize();
+
+        for (int start = 0; start < identifiers.size() && !shuttingDown; start += partitionSize) {
+            List<String> partition = identifiers.subList(start, Math.min(start + partitionSize, identifiers.size()));
+
+            try {
+                partitions.add(partitionExecutor.submit(() ->
+                        processPartition(runKey, platform, partition, getDiscountedGames)));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        return partitions;
+    }
+
+    private Map<String, GenericGame> processPartition(
+            String runKey,
+            GamePlatform platform,
+            List<String> identifiers,
+            Function<Collection<String>, Map<String, GenericGame>> getDiscountedGames) throws InterruptedException {
+        Semaphore permits = platformPermits.get(platform);
+        permits.acquire();
+
+        try {
+            Map<String, GenericGame> discountedGames = UpstreamRequestPriority.callWith(
+                    RequestPriority.BACKGROUND,
+                    () -> discountRunService.getDiscountedGames(runKey, platform, identifiers, getDiscountedGames)
+            );
+            completedPartitions.incrementAndGet();
+            return discountedGames;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void enqueueMails(String runKey, Map<String, Map<GameId, GenericGame>> gamesWithDiscountByEmail) {
+        Set<String> notifiedEmails = discountRunService.getNotifiedEmails(runKey, gamesWithDiscountByEmail.keySet());
+
+        for (Map.Entry<String, Map<GameId, GenericGame>> entry : gamesWithDiscountByEmail.entrySet()) {
+            if (shuttingDown) break;
+            if (notifiedEmails.contains(entry.getKey())) continue;
+
+            transactionTemplate.executeWithoutResult(status -> {
                 mailService.sendDiscountWarningMail(
-                        user.getEmail(),
+                        entry.getKey(),
                         "📉 Seus jogos estão em promoção!",
-                        gamesWithDiscount
+                        new ArrayList<>(entry.getValue().values())
                 );
+                discountRunService.markNotified(runKey, entry.getKey(), entry.getValue());
+            });
+            enqueuedMails.incrementAndGet();
+        }
+    }
+
+    private Map<String, GenericGame> awaitPartitions(String runKey, int shard,
+                                                     List<Future<Map<String, GenericGame>>> partitions)
+            throws InterruptedException {
+        Map<String, GenericGame> discountedGames = new HashMap<>();
+        long renewIntervalMillis = discountWarningConfig.getLeaseDuration().toMillis() / 3;
+
+        for (Future<Map<String, GenericGame>> partition : partitions) {
+            while (true) {
+                try {
+                    discountedGames.putAll(partition.get(renewIntervalMillis, TimeUnit.MILLISECONDS));
+                    break;
+                } catch (TimeoutException e) {
+                    renewLease(runKey, shard);
+                } catch (ExecutionException | CancellationException e) {
+                    failedPartitions.incrementAndGet();
+                    log.warn("Discount warning partition failed: {}", getFailureMessage(e));
+                    break;
+                }
             }
         }
+
+        return discountedGames;
+    }
+
+    private void renewLease(String runKey, int shard) {
+        if (!schedulerLeaseService.renew(runKey, shard, discountWarningConfig.getLeaseDuration())) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private String getFailureMessage(Exception e) {
+        return e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
+    }
+
+    // Shards own contiguous id ranges, ordered the way the database compares UUIDs (unsigned, most significant
+    // bits first), so each shard pages only its own subscribers through the primary key index.
+    private UUID getShardBoundary(int shard) {
+        if (shard >= discountWarningConfig.getShardCount()) return LAST_SUBSCRIBER_ID;
+
+        long mostSignificantBits = SUBSCRIBER_ID_SPACE.multiply(BigInteger.valueOf(shard))
+                .divide(BigInteger.valueOf(discountWarningConfig.getShardCount()))
+                .longValue();
+        return new UUID(mostSignificantBits, 0);
+    }
+
+    private void resetProgress() {
+        totalPartitions.set(0);
+        completedPartitions.set(0);
+        failedPartitions.set(0);
+        enqueuedMails.set(0);
+    }
+
+    private void registerProgressGauge(MeterRegistry meterRegistry, String name, String state, AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get).tag("state", state).register(meterRegistry);
+    }
+
+    private static class LeaseLostException extends RuntimeException {
     }
 }
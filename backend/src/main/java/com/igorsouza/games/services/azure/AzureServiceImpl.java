@@ -2,14 +2,20 @@ package com.igorsouza.games.services.azure;
 
 import com.azure.ai.openai.assistants.*;
 import com.azure.ai.openai.assistants.models.*;
+import com.igorsouza.games.exceptions.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class AzureServiceImpl implements AzureService {
 
+    private static final List<RunStatus> FAILED_RUN_STATUSES =
+            List.of(RunStatus.FAILED, RunStatus.CANCELLED, RunStatus.EXPIRED);
+
     private final AssistantsClient client;
 
     @Value("${AZURE_OPENAI_ASSISTANT_ID}")
@@ -28,6 +34,10 @@ public class AzureServiceImpl implements AzureService {
         ThreadRun run = client.createRun(thread.getId(), runOptions);
 
         while (!run.getStatus().equals(RunStatus.COMPLETED)) {
+            if (FAILED_RUN_STATUSES.contains(run.getStatus())) {
+                throw new ServiceUnavailableException("Assistant run ended with status " + run.getStatus() + ".");
+            }
+
             Thread.sleep(3000);
             run = client.getRun(thread.getId(), run.getId());
         }
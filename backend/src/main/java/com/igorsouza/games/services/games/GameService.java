@@ -1,28 +1,42 @@
 package com.igorsouza.games.services.games;
 
 import com.igorsouza.games.dtos.games.CreateReview;
+import com.igorsouza.games.dtos.games.GamesPage;
 import com.igorsouza.games.dtos.games.GenericGame;
 import com.igorsouza.games.dtos.games.Review;
+import com.igorsouza.games.dtos.games.ReviewJob;
 import com.igorsouza.games.dtos.games.UpdateReview;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
 import com.igorsouza.games.models.Game;
+import com.igorsouza.games.models.GameId;
 import com.igorsouza.games.models.User;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface GameService {
-    List<GenericGame> getSteamGames(String gameName) throws UnauthorizedException;
-    GenericGame getSteamGameById(String identifier);
-    List<GenericGame> getEpicStoreGames(String gameName) throws UnauthorizedException;
-    GenericGame getEpicStoreGameById(String identifier);
+    GamesPage getSteamGames(String gameName, String cursor) throws UnauthorizedException, BadRequestException;
+    SseEmitter searchGames(String gameName) throws UnauthorizedException;
+    List<GenericGame> getSteamGamesByIds(List<String> identifiers);
+    Map<String, GenericGame> getDiscountedSteamGames(Collection<String> identifiers);
+    GamesPage getEpicStoreGames(String gameName, String cursor) throws UnauthorizedException, BadRequestException;
+    List<GenericGame> getEpicStoreGamesByIds(List<String> identifiers);
+    Map<String, GenericGame> getDiscountedEpicStoreGames(Collection<String> identifiers);
     List<Game> getGamesByUser(User user);
+    List<GameId> getGameIdsByUsers(Collection<UUID> userIds);
     void saveGame(Game game) throws ConflictException;
     void removeGame(Game game) throws NotFoundException;
     Review getGameReview(String gameName) throws NotFoundException;
-    Review generateGameReview(String gameName) throws ConflictException, InterruptedException;
+    ReviewJob generateGameReview(String gameName) throws ConflictException;
+    ReviewJob getGameReviewJob(UUID jobId) throws NotFoundException;
     Review reviewGame(CreateReview createReview) throws ConflictException;
     Review updateGameReview(UUID reviewId, UpdateReview updateReview) throws NotFoundException;
     void deleteGameReview(UUID reviewId) throws NotFoundException;
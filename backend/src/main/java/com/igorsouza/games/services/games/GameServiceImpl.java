@@ -1,30 +1,54 @@
 package com.igorsouza.games.services.games;
 
+import com.igorsouza.games.config.app.SearchConfig;
 import com.igorsouza.games.dtos.games.CreateReview;
+import com.igorsouza.games.dtos.games.GamesPage;
 import com.igorsouza.games.dtos.games.GenericGame;
 import com.igorsouza.games.dtos.games.Review;
+import com.igorsouza.games.dtos.games.ReviewJob;
+import com.igorsouza.games.dtos.games.StorePage;
 import com.igorsouza.games.dtos.games.UpdateReview;
 import com.igorsouza.games.dtos.games.epic.*;
 import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
 import com.igorsouza.games.dtos.games.steam.SteamGamePriceOverview;
 import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.SearchScope;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
 import com.igorsouza.games.models.Game;
 import com.igorsouza.games.models.GameId;
 import com.igorsouza.games.models.User;
+import com.igorsouza.games.repositories.GameNotificationRepository;
 import com.igorsouza.games.repositories.GamesRepository;
+import com.igorsouza.games.services.integrations.LastKnownGameCache;
+import com.igorsouza.games.services.integrations.RequestCoalescer;
 import com.igorsouza.games.services.integrations.epic.EpicGamesStoreService;
 import com.igorsouza.games.services.integrations.steam.SteamService;
 import com.igorsouza.games.services.reviews.GameReviewService;
 import com.igorsouza.games.services.users.UserService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
@@ -34,32 +58,105 @@ public class GameServiceImpl implements GameService {
     private final UserService userService;
     private final GameReviewService gameReviewService;
     private final GamesRepository gamesRepository;
+    private final GameNotificationRepository gameNotificationRepository;
+    private final RequestCoalescer requestCoalescer;
+    private final LastKnownGameCache lastKnownGameCache;
+    private final SearchConfig searchConfig;
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Override
-    public List<GenericGame> getSteamGames(String gameName) throws UnauthorizedException {
-        saveGameSearch(gameName, GamePlatform.STEAM);
-        List<SteamGameDetails> games = steamService.getGames(gameName);
-        return games.stream().map(this::formatSteamGame).toList();
+    public GamesPage getSteamGames(String gameName, String cursor) throws UnauthorizedException, BadRequestException {
+        int page = decodeCursor(gameName, cursor);
+        if (page == 0) saveGameSearch(gameName, SearchScope.STEAM);
+
+        return searchSteamGames(gameName, page);
     }
 
     @Override
-    public List<GenericGame> getEpicStoreGames(String gameName) throws UnauthorizedException {
-        saveGameSearch(gameName, GamePlatform.EPIC);
-        List<EpicGamesStoreGame> games = epicGamesStoreService.getGames(gameName);
-        List<EpicGamesStoreGame> availableGames = filterAvailableEpicStoreGames(games);
-        return availableGames.stream().map(this::formatEpicStoreGame).toList();
+    public GamesPage getEpicStoreGames(String gameName, String cursor) throws UnauthorizedException, BadRequestException {
+        int page = decodeCursor(gameName, cursor);
+        if (page == 0) saveGameSearch(gameName, SearchScope.EPIC);
+
+        return searchEpicStoreGames(gameName, page);
     }
 
     @Override
-    public GenericGame getSteamGameById(String identifier) {
-        SteamGameDetails steamGame = steamService.getGameDetails(Integer.parseInt(identifier));
-        return formatSteamGame(steamGame);
+    public SseEmitter searchGames(String gameName) throws UnauthorizedException {
+        saveGameSearch(gameName, SearchScope.ALL);
+
+        Duration storeDeadline = searchConfig.getStoreDeadline();
+        SseEmitter emitter = new SseEmitter(storeDeadline.plusSeconds(5).toMillis());
+
+        CompletableFuture.allOf(
+                streamStoreSearch(emitter, GamePlatform.STEAM, () -> searchSteamGames(gameName, 0), storeDeadline),
+                streamStoreSearch(emitter, GamePlatform.EPIC, () -> searchEpicStoreGames(gameName, 0), storeDeadline)
+        ).whenComplete((result, e) -> emitter.complete());
+
+        return emitter;
     }
 
     @Override
-    public GenericGame getEpicStoreGameById(String identifier) {
-        EpicGamesStoreGame epicGame = epicGamesStoreService.getGameDetails(identifier);
-        return formatEpicStoreGame(epicGame);
+    public List<GenericGame> getSteamGamesByIds(List<String> identifiers) {
+        return lastKnownGameCache.getGames(GamePlatform.STEAM, identifiers, () -> {
+            List<Integer> gamesIds = identifiers.stream().map(Integer::parseInt).toList();
+            Map<Integer, SteamGamePriceOverview> gamesPrices = getSteamGamePrices(gamesIds);
+
+            return gamesIds.stream()
+                    .map(gameId -> formatSteamGame(getSteamGameDetails(gameId), gamesPrices.get(gameId)))
+                    .toList();
+        });
+    }
+
+    @Override
+    public Map<String, GenericGame> getDiscountedSteamGames(Collection<String> identifiers) {
+        List<Integer> gamesIds = identifiers.stream().map(Integer::parseInt).toList();
+        Map<Integer, SteamGamePriceOverview> gamesPrices = getSteamGamePrices(gamesIds);
+        Map<String, GenericGame> games = new LinkedHashMap<>();
+
+        gamesIds.stream()
+                .filter(gameId -> gamesPrices.containsKey(gameId) && gamesPrices.get(gameId).getDiscountPercent() > 0)
+                .forEach(gameId -> games.put(
+                        String.valueOf(gameId),
+                        formatSteamGame(getSteamGameDetails(gameId), gamesPrices.get(gameId))
+                ));
+
+        return games;
+    }
+
+    @Override
+    public List<GenericGame> getEpicStoreGamesByIds(List<String> identifiers) {
+        return lastKnownGameCache.getGames(GamePlatform.EPIC, identifiers, () -> {
+            Map<String, EpicGamesStoreGame> games = getEpicStoreGamesDetails(identifiers);
+            Map<String, EpicGamesStoreGamePrice> gamesPrices = getEpicStoreGamesPrices(identifiers);
+
+            return identifiers.stream()
+                    .map(identifier -> games.containsKey(identifier)
+                            ? formatEpicStoreGame(games.get(identifier), gamesPrices.get(identifier))
+                            : null)
+                    .toList();
+        });
+    }
+
+    @Override
+    public Map<String, GenericGame> getDiscountedEpicStoreGames(Collection<String> identifiers) {
+        Map<String, EpicGamesStoreGamePrice> gamesPrices = getEpicStoreGamesPrices(identifiers);
+        List<String> discountedIdentifiers = identifiers.stream()
+                .filter(identifier -> isDiscounted(gamesPrices.get(identifier)))
+                .toList();
+        Map<String, EpicGamesStoreGame> gamesDetails = getEpicStoreGamesDetails(discountedIdentifiers);
+        Map<String, GenericGame> games = new LinkedHashMap<>();
+
+        for (String identifier : discountedIdentifiers) {
+            if (!gamesDetails.containsKey(identifier)) continue;
+
+            GenericGame game = formatEpicStoreGame(gamesDetails.get(identifier), gamesPrices.get(identifier));
+
+            if (game.getDiscountPercent() > 0) {
+                games.put(identifier, game);
+            }
+        }
+
+        return games;
     }
 
     @Override
@@ -67,6 +164,11 @@ public class GameServiceImpl implements GameService {
         return gamesRepository.findAllByUser(user);
     }
 
+    @Override
+    public List<GameId> getGameIdsByUsers(Collection<UUID> userIds) {
+        return gamesRepository.findAllIdsByUserIds(userIds);
+    }
+
     @Override
     public void saveGame(Game game) throws ConflictException {
         GameId gameId = new GameId(game.getUserId(), game.getPlatformIdentifier(), game.getPlatform());
@@ -88,6 +190,7 @@ public class GameServiceImpl implements GameService {
         }
 
         gamesRepository.deleteById(gameId);
+        gameNotificationRepository.deleteById(gameId);
     }
 
     @Override
@@ -96,10 +199,15 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    public Review generateGameReview(String gameName) throws ConflictException, InterruptedException {
+    public ReviewJob generateGameReview(String gameName) throws ConflictException {
         return gameReviewService.generateGameReview(gameName);
     }
 
+    @Override
+    public ReviewJob getGameReviewJob(UUID jobId) throws NotFoundException {
+        return gameReviewService.getGameReviewJob(jobId);
+    }
+
     @Override
     public Review reviewGame(CreateReview createReview) throws ConflictException {
         return gameReviewService.reviewGame(createReview.getGameName(), createReview.getReview());
@@ -115,12 +223,110 @@ public class GameServiceImpl implements GameService {
         gameReviewService.deleteGameReview(reviewId);
     }
 
-    private void saveGameSearch(String gameName, GamePlatform platform) throws UnauthorizedException {
-        userService.saveUserGameSearch(gameName, platform);
+    private SteamGameDetails getSteamGameDetails(Integer gameId) {
+        return requestCoalescer.execute("steam", "details:" + gameId, () -> steamService.getGameDetails(gameId));
+    }
+
+    private Map<Integer, SteamGamePriceOverview> getSteamGamePrices(List<Integer> gamesIds) {
+        return requestCoalescer.execute("steam", "prices:" + getBatchKey(gamesIds),
+                () -> steamService.getGamePrices(gamesIds));
+    }
+
+    private Map<String, EpicGamesStoreGame> getEpicStoreGamesDetails(Collection<String> identifiers) {
+        return requestCoalescer.execute("epic", "details:" + getBatchKey(identifiers),
+                () -> epicGamesStoreService.getGamesDetails(identifiers));
+    }
+
+    private Map<String, EpicGamesStoreGamePrice> getEpicStoreGamesPrices(Collection<String> identifiers) {
+        return requestCoalescer.execute("epic", "prices:" + getBatchKey(identifiers),
+                () -> epicGamesStoreService.getGamesPrices(identifiers));
+    }
+
+    private String getBatchKey(Collection<?> identifiers) {
+        return identifiers.stream().map(String::valueOf).distinct().sorted().collect(Collectors.joining(","));
+    }
+
+    @PreDestroy
+    public void shutdownSearchExecutor() {
+        searchExecutor.shutdownNow();
+    }
+
+    private GamesPage searchSteamGames(String gameName, int page) {
+        return lastKnownGameCache.searchGames(GamePlatform.STEAM, gameName, page, () -> {
+            StorePage<SteamGameDetails> games = steamService.getGames(gameName, page);
+            return new GamesPage(
+                    games.getItems().stream().map(this::formatSteamGame).toList(),
+                    games.isHasMore() ? encodeCursor(gameName, page + 1) : null
+            );
+        });
+    }
+
+    private GamesPage searchEpicStoreGames(String gameName, int page) {
+        return lastKnownGameCache.searchGames(GamePlatform.EPIC, gameName, page, () -> {
+            StorePage<EpicGamesStoreGame> games = epicGamesStoreService.getGames(gameName, page);
+            List<EpicGamesStoreGame> availableGames = filterAvailableEpicStoreGames(games.getItems());
+            return new GamesPage(
+                    availableGames.stream().map(this::formatEpicStoreGame).toList(),
+                    games.isHasMore() ? encodeCursor(gameName, page + 1) : null
+            );
+        });
+    }
+
+    private CompletableFuture<Void> streamStoreSearch(SseEmitter emitter, GamePlatform platform,
+                                                      Supplier<GamesPage> search, Duration deadline) {
+        String eventName = platform.name().toLowerCase();
+
+        return CompletableFuture.supplyAsync(search, searchExecutor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((gamesPage, e) -> {
+                    try {
+                        if (e == null) {
+                            emitter.send(SseEmitter.event().name(eventName).data(gamesPage, MediaType.APPLICATION_JSON));
+                        } else {
+                            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                            String message = cause instanceof TimeoutException
+                                    ? "Search did not finish before the deadline."
+                                    : cause.getMessage();
+                            emitter.send(SseEmitter.event().name(eventName + "-error").data(message));
+                        }
+                    } catch (IOException | IllegalStateException sendException) {
+                        log.debug("Could not stream {} results: {}", eventName, sendException.getMessage());
+                    }
+
+                    return null;
+                });
+    }
+
+    private int decodeCursor(String gameName, String cursor) throws BadRequestException {
+        if (cursor == null || cursor.isBlank()) return 0;
+
+        try {
+            String[] cursorParts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 2);
+            int page = Integer.parseInt(cursorParts[0]);
+
+            if (page > 0 && cursorParts.length == 2 && cursorParts[1].equals(gameName.trim().toLowerCase())) {
+                return page;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        throw new BadRequestException("Invalid cursor.");
+    }
+
+    private String encodeCursor(String gameName, int page) {
+        String cursor = page + "\n" + gameName.trim().toLowerCase();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void saveGameSearch(String gameName, SearchScope scope) throws UnauthorizedException {
+        userService.saveUserGameSearch(gameName, scope);
     }
 
     private GenericGame formatSteamGame(SteamGameDetails game) {
-        SteamGamePriceOverview gamePrice = game.getPriceOverview();
+        return formatSteamGame(game, game.getPriceOverview());
+    }
+
+    private GenericGame formatSteamGame(SteamGameDetails game, SteamGamePriceOverview gamePrice) {
         double initialPrice = gamePrice == null ? 0 : (double) gamePrice.getInitialPrice() / 100;
         double discountPrice = gamePrice == null ? 0 : (double) gamePrice.getFinalPrice() / 100;
         int discountPercent = gamePrice == null ? 0 : gamePrice.getDiscountPercent();
@@ -133,7 +339,8 @@ public class GameServiceImpl implements GameService {
                 GamePlatform.STEAM,
                 initialPrice,
                 discountPrice,
-                discountPercent
+                discountPercent,
+                false
         );
     }
 
@@ -154,10 +361,19 @@ public class GameServiceImpl implements GameService {
                 }).toList();
     }
 
+    private boolean isDiscounted(EpicGamesStoreGamePrice gamePrice) {
+        return gamePrice != null && gamePrice.getTotalPrice() != null
+                && gamePrice.getTotalPrice().getDiscountPrice() < gamePrice.getTotalPrice().getOriginalPrice();
+    }
+
     private GenericGame formatEpicStoreGame(EpicGamesStoreGame game) {
+        return formatEpicStoreGame(game, game.getPrice());
+    }
+
+    private GenericGame formatEpicStoreGame(EpicGamesStoreGame game, EpicGamesStoreGamePrice price) {
         String gameSlug = getGameSlug(game);
         List<EpicGamesStoreGameImage> gameImages = game.getKeyImages();
-        EpicGamesStoreGameTotalPrice gamePrice = game.getPrice().getTotalPrice();
+        EpicGamesStoreGameTotalPrice gamePrice = (price == null ? game.getPrice() : price).getTotalPrice();
         double initialPrice = (double) gamePrice.getOriginalPrice() / 100;
         double discountPrice = (double) gamePrice.getDiscountPrice() / 100;
         int discountPercent = initialPrice == discountPrice
@@ -172,7 +388,8 @@ public class GameServiceImpl implements GameService {
                 GamePlatform.EPIC,
                 initialPrice,
                 discountPrice,
-                discountPercent
+                discountPercent,
+                false
         );
     }
 
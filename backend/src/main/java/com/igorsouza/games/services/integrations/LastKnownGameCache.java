@@ -0,0 +1,133 @@
+package com.igorsouza.games.services.integrations;
+
+import com.igorsouza.games.config.cache.StoreCacheManagerConfig;
+import com.igorsouza.games.dtos.games.GamesPage;
+import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.RequestPriority;
+import com.igorsouza.games.services.integrations.upstream.UpstreamRequestPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastKnownGameCache {
+
+    private final CacheManager storeCacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public GenericGame getGame(GamePlatform platform, String identifier, Supplier<GenericGame> request) {
+        return getGames(platform, List.of(identifier), () -> List.of(request.get())).getFirst();
+    }
+
+    public List<GenericGame> getGames(GamePlatform platform, List<String> identifiers,
+                                      Supplier<List<GenericGame>> request) {
+        try {
+            List<GenericGame> games = request.get();
+            rememberGames(platform, games);
+            return games;
+        } catch (RuntimeException e) {
+            List<GenericGame> staleGames = new ArrayList<>();
+
+            for (String identifier : identifiers) {
+                GenericGame lastKnownGame = getCache().get(getGameKey(platform, identifier), GenericGame.class);
+                if (lastKnownGame == null) throw e;
+                staleGames.add(markStale(lastKnownGame));
+            }
+
+            onStaleServed(platform, e);
+            refreshInBackground(platform + ":" + String.join(",", identifiers),
+                    () -> rememberGames(platform, request.get()));
+            return staleGames;
+        }
+    }
+
+    public GamesPage searchGames(GamePlatform platform, String gameName, int page, Supplier<GamesPage> request) {
+        String searchKey = "search:" + platform + ":" + gameName.trim().toLowerCase() + ":" + page;
+
+        try {
+            GamesPage gamesPage = request.get();
+            getCache().put(searchKey, gamesPage);
+            return gamesPage;
+        } catch (RuntimeException e) {
+            GamesPage lastKnownPage = getCache().get(searchKey, GamesPage.class);
+            if (lastKnownPage == null) throw e;
+
+            onStaleServed(platform, e);
+            refreshInBackground(searchKey, () -> getCache().put(searchKey, request.get()));
+            return new GamesPage(
+                    lastKnownPage.getGames().stream().map(this::markStale).toList(),
+                    lastKnownPage.getNextCursor()
+            );
+        }
+    }
+
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void rememberGames(GamePlatform platform, List<GenericGame> games) {
+        for (GenericGame game : games) {
+            if (game == null) continue;
+            getCache().put(getGameKey(platform, game.getIdentifier()), game);
+        }
+    }
+
+    private void refreshInBackground(String key, Runnable refresh) {
+        if (!refreshingKeys.add(key)) return;
+
+        refreshExecutor.execute(() -> {
+            try {
+                UpstreamRequestPriority.runWith(RequestPriority.BACKGROUND, refresh);
+            } catch (RuntimeException e) {
+                log.debug("Background refresh of {} failed: {}", key, e.getMessage());
+            } finally {
+                refreshingKeys.remove(key);
+            }
+        });
+    }
+
+    private void onStaleServed(GamePlatform platform, RuntimeException cause) {
+        meterRegistry.counter("store.stale.served", "store", platform.name().toLowerCase()).increment();
+        log.warn("Serving last known {} data: {}", platform, cause.getMessage());
+    }
+
+    private GenericGame markStale(GenericGame game) {
+        return new GenericGame(
+                game.getIdentifier(),
+                game.getTitle(),
+                game.getUrl(),
+                game.getImage(),
+                game.getPlatform(),
+                game.getInitialPrice(),
+                game.getDiscountPrice(),
+                game.getDiscountPercent(),
+                true
+        );
+    }
+
+    private String getGameKey(GamePlatform platform, String identifier) {
+        return platform + ":" + identifier;
+    }
+
+    private Cache getCache() {
+        return storeCacheManager.getCache(StoreCacheManagerConfig.LAST_KNOWN_GAMES);
+    }
+}
@@ -0,0 +1,56 @@
+package com.igorsouza.games.services.integrations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String store, String key, Supplier<T> request) {
+        String requestKey = store + ":" + key;
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightRequests.putIfAbsent(requestKey, call);
+
+        if (inFlightCall != null) {
+            meterRegistry.counter("store.requests", "store", store, "role", "coalesced").increment();
+            return (T) awaitInFlightCall(inFlightCall);
+        }
+
+        meterRegistry.counter("store.requests", "store", store, "role", "leader").increment();
+
+        try {
+            T result = request.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(requestKey, call);
+        }
+    }
+
+    private Object awaitInFlightCall(CompletableFuture<Object> inFlightCall) {
+        try {
+            return inFlightCall.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.igorsouza.games.services.integrations.epic;
 
+import com.igorsouza.games.dtos.games.StorePage;
 import com.igorsouza.games.dtos.games.epic.EpicGamesStoreGame;
+import com.igorsouza.games.dtos.games.epic.EpicGamesStoreGamePrice;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 
 public interface EpicGamesStoreService {
-    List<EpicGamesStoreGame> getGames(String gameName);
+    StorePage<EpicGamesStoreGame> getGames(String gameName, int page);
     EpicGamesStoreGame getGameDetails(String identifier);
+    Map<String, EpicGamesStoreGame> getGamesDetails(Collection<String> identifiers);
+    Map<String, EpicGamesStoreGamePrice> getGamesPrices(Collection<String> identifiers);
 }
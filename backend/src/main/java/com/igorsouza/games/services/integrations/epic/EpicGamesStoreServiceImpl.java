@@ -1,83 +1,320 @@
 package com.igorsouza.games.services.integrations.epic;
 
+import com.igorsouza.games.config.app.EpicConfig;
+import com.igorsouza.games.config.cache.StoreCacheManagerConfig;
+import com.igorsouza.games.dtos.games.StorePage;
 import com.igorsouza.games.dtos.games.epic.*;
+import com.igorsouza.games.enums.EpicQueryProfile;
+import com.igorsouza.games.models.EpicCatalogOffer;
+import com.igorsouza.games.repositories.EpicCatalogOfferRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class EpicGamesStoreServiceImpl implements EpicGamesStoreService {
 
+    private final RestTemplate restTemplate;
+    private final EpicConfig epicConfig;
+    private final CacheManager storeCacheManager;
+    private final EpicCatalogOfferRepository epicCatalogOfferRepository;
+    private final EpicGraphQLQueries epicGraphQLQueries;
+    private final ExecutorService indexExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     @Override
-    public List<EpicGamesStoreGame> getGames(String gameName) {
-        RestTemplate restTemplate = new RestTemplate();
+    @SuppressWarnings("unchecked")
+    public StorePage<EpicGamesStoreGame> getGames(String gameName, int page) {
+        Cache searchCache = storeCacheManager.getCache(StoreCacheManagerConfig.EPIC_SEARCH);
+        String cacheKey = gameName.trim().toLowerCase() + ":" + page + ":" + epicConfig.getCountry()
+                + ":" + epicConfig.getLocale();
+        StorePage<EpicGamesStoreGame> cachedPage = searchCache.get(cacheKey, StorePage.class);
+
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        int pageSize = epicConfig.getPageSize();
         ResponseEntity<EpicGamesStoreGameSearchResponse> response = restTemplate.postForEntity(
                 "https://graphql.epicgames.com/graphql",
-                getGraphQLRequest(gameName),
+                getGraphQLRequest(gameName, page * pageSize, pageSize + 1),
                 EpicGamesStoreGameSearchResponse.class);
 
-        return response.getBody().getData().getCatalog().getSearchStore().getElements();
+        List<EpicGamesStoreGame> games = response.getBody().getData().getCatalog().getSearchStore().getElements();
+        if (games == null) games = List.of();
+        indexCatalogOffersInBackground(games);
+
+        StorePage<EpicGamesStoreGame> gamesPage = new StorePage<>(
+                games.stream().limit(pageSize).toList(),
+                games.size() > pageSize
+        );
+        searchCache.put(cacheKey, gamesPage);
+        return gamesPage;
+    }
+
+    @PreDestroy
+    public void shutdownIndexExecutor() {
+        indexExecutor.shutdownNow();
     }
 
     @Override
     public EpicGamesStoreGame getGameDetails(String identifier) {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<EpicGamesStoreGameSearchResponse> response = restTemplate.postForEntity(
+        return getGamesDetails(List.of(identifier)).get(identifier);
+    }
+
+    @Override
+    public Map<String, EpicGamesStoreGame> getGamesDetails(Collection<String> identifiers) {
+        Cache detailsCache = storeCacheManager.getCache(StoreCacheManagerConfig.EPIC_GAME_DETAILS);
+        Cache pricesCache = storeCacheManager.getCache(StoreCacheManagerConfig.EPIC_GAME_PRICES);
+        Map<String, EpicGamesStoreGame> games = new HashMap<>();
+        List<String> missingIdentifiers = new ArrayList<>();
+
+        for (String identifier : new LinkedHashSet<>(identifiers)) {
+            EpicGamesStoreGame cachedGame = detailsCache.get(getCacheKey(identifier), EpicGamesStoreGame.class);
+
+            if (cachedGame == null) {
+                missingIdentifiers.add(identifier);
+            } else {
+                games.put(identifier, cachedGame);
+            }
+        }
+
+        Map<String, EpicGamesStoreGame> fetchedGames = fetchGames(missingIdentifiers, EpicQueryProfile.FULL);
+
+        fetchedGames.forEach((identifier, game) -> {
+            detailsCache.put(getCacheKey(identifier), game);
+            pricesCache.put(getCacheKey(identifier), game.getPrice());
+        });
+        games.putAll(fetchedGames);
+        return games;
+    }
+
+    @Override
+    public Map<String, EpicGamesStoreGamePrice> getGamesPrices(Collection<String> identifiers) {
+        Cache pricesCache = storeCacheManager.getCache(StoreCacheManagerConfig.EPIC_GAME_PRICES);
+        Map<String, EpicGamesStoreGamePrice> prices = new HashMap<>();
+        List<String> missingIdentifiers = new ArrayList<>();
+
+        for (String identifier : new LinkedHashSet<>(identifiers)) {
+            EpicGamesStoreGamePrice cachedPrice = pricesCache.get(getCacheKey(identifier), EpicGamesStoreGamePrice.class);
+
+            if (cachedPrice == null) {
+                missingIdentifiers.add(identifier);
+            } else {
+                prices.put(identifier, cachedPrice);
+            }
+        }
+
+        fetchGames(missingIdentifiers, EpicQueryProfile.PRICE).forEach((identifier, game) -> {
+            pricesCache.put(getCacheKey(identifier), game.getPrice());
+            prices.put(identifier, game.getPrice());
+        });
+
+        return prices;
+    }
+
+    private Map<String, EpicGamesStoreGame> fetchGames(List<String> identifiers, EpicQueryProfile profile) {
+        if (identifiers.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, EpicCatalogOffer> catalogOffers = epicCatalogOfferRepository.findAllById(identifiers).stream()
+                .collect(Collectors.toMap(EpicCatalogOffer::getIdentifier, Function.identity()));
+        List<EpicCatalogOffer> indexedOffers = identifiers.stream()
+                .filter(catalogOffers::containsKey)
+                .map(catalogOffers::get)
+                .toList();
+        List<String> unindexedIdentifiers = new ArrayList<>(identifiers.stream()
+                .filter(identifier -> !catalogOffers.containsKey(identifier))
+                .toList());
+
+        Map<String, EpicGamesStoreGame> games = new HashMap<>();
+        int batchSize = epicConfig.getBatchSize();
+
+        for (int start = 0; start < indexedOffers.size(); start += batchSize) {
+            List<EpicCatalogOffer> batch = indexedOffers.subList(start, Math.min(start + batchSize, indexedOffers.size()));
+            Map<String, EpicGamesStoreGame> batchGames = fetchCatalogOffersBatch(batch, profile);
+
+            for (EpicCatalogOffer catalogOffer : batch) {
+                if (!batchGames.containsKey(catalogOffer.getIdentifier())) {
+                    epicCatalogOfferRepository.delete(catalogOffer);
+                    unindexedIdentifiers.add(catalogOffer.getIdentifier());
+                }
+            }
+
+            games.putAll(batchGames);
+        }
+
+        for (int start = 0; start < unindexedIdentifiers.size(); start += batchSize) {
+            List<String> batch = unindexedIdentifiers.subList(start, Math.min(start + batchSize, unindexedIdentifiers.size()));
+            Map<String, EpicGamesStoreGame> batchGames = fetchGamesBatch(batch, profile);
+
+            indexCatalogOffers(batchGames.entrySet().stream()
+                    .filter(entry -> entry.getKey().equals(entry.getValue().getTitle()))
+                    .map(Map.Entry::getValue)
+                    .toList());
+            games.putAll(batchGames);
+        }
+
+        return games;
+    }
+
+    private Map<String, EpicGamesStoreGame> fetchCatalogOffersBatch(List<EpicCatalogOffer> catalogOffers,
+                                                                    EpicQueryProfile profile) {
+        ResponseEntity<EpicGamesStoreCatalogOfferBatchResponse> response = restTemplate.postForEntity(
                 "https://graphql.epicgames.com/graphql",
-                getGraphQLRequest(identifier),
-                EpicGamesStoreGameSearchResponse.class);
+                getCatalogOfferBatchGraphQLRequest(catalogOffers, profile),
+                EpicGamesStoreCatalogOfferBatchResponse.class);
+
+        EpicGamesStoreCatalogOfferBatchResponseData data = response.getBody() == null ? null : response.getBody().getData();
+
+        if (data == null || data.getCatalog() == null) {
+            throw new RestClientException("Epic Games Store returned no catalog offers.");
+        }
+
+        Map<String, EpicGamesStoreGame> games = new HashMap<>();
+
+        for (int i = 0; i < catalogOffers.size(); i++) {
+            EpicGamesStoreGame game = data.getCatalog().get("game" + i);
 
-        return response.getBody().getData().getCatalog().getSearchStore().getElements().getFirst();
+            if (game != null) {
+                games.put(catalogOffers.get(i).getIdentifier(), game);
+            }
+        }
+
+        return games;
     }
 
-    private Map<String, Object> getGraphQLRequest(String gameName) {
-        String query = """
-            query searchStoreQuery($keyword: String, $locale: String!, $country: String!) {
-              Catalog {
-                searchStore(
-                  keywords: $keyword,
-                  locale: $locale,
-                  country: $country,
-                  sortBy: "relevancy"
-                  sortDir: "DESC"
-                  start: 0,
-                  count: 10
-                ) {
-                  elements {
-                    title
-                    productSlug
-                    urlSlug
-                    keyImages {
-                      url
-                    }
-                    categories {
-                      path
-                    }
-                    tags {
-                      name
-                    }
-                    price(country: $country) {
-                      totalPrice {
-                        discountPrice
-                        originalPrice
-                      }
-                    }
-                    catalogNs {
-                      mappings {
-                        pageSlug
-                        pageType
-                      }
-                    }
-                  }
+    private Map<String, EpicGamesStoreGame> fetchGamesBatch(List<String> identifiers, EpicQueryProfile profile) {
+        ResponseEntity<EpicGamesStoreBatchSearchResponse> response = restTemplate.postForEntity(
+                "https://graphql.epicgames.com/graphql",
+                getBatchGraphQLRequest(identifiers, profile),
+                EpicGamesStoreBatchSearchResponse.class);
+
+        EpicGamesStoreBatchSearchResponseData data = response.getBody() == null ? null : response.getBody().getData();
+
+        if (data == null || data.getCatalog() == null) {
+            throw new RestClientException("Epic Games Store returned no search results.");
+        }
+
+        Map<String, EpicGamesStoreSearchStore> searchStores = data.getCatalog();
+        Map<String, EpicGamesStoreGame> games = new HashMap<>();
+
+        for (int i = 0; i < identifiers.size(); i++) {
+            EpicGamesStoreSearchStore searchStore = searchStores.get("game" + i);
+
+            if (searchStore == null || searchStore.getElements() == null || searchStore.getElements().isEmpty()) {
+                log.warn("Epic Games Store returned no results for {}.", identifiers.get(i));
+                continue;
+            }
+
+            games.put(identifiers.get(i), searchStore.getElements().getFirst());
+        }
+
+        return games;
+    }
+
+    private void indexCatalogOffersInBackground(List<EpicGamesStoreGame> games) {
+        try {
+            indexExecutor.execute(() -> indexCatalogOffers(games));
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping Epic catalog indexing during shutdown.");
+        }
+    }
+
+    private void indexCatalogOffers(List<EpicGamesStoreGame> games) {
+        Map<String, EpicCatalogOffer> catalogOffers = new LinkedHashMap<>();
+
+        for (EpicGamesStoreGame game : games) {
+            if (game.getTitle() == null || game.getId() == null || game.getNamespace() == null) continue;
+
+            catalogOffers.putIfAbsent(game.getTitle(), EpicCatalogOffer.builder()
+                    .identifier(game.getTitle())
+                    .namespace(game.getNamespace())
+                    .offerId(game.getId())
+                    .build());
+        }
+
+        if (catalogOffers.isEmpty()) return;
+
+        try {
+            for (EpicCatalogOffer indexedOffer : epicCatalogOfferRepository.findAllById(catalogOffers.keySet())) {
+                EpicCatalogOffer catalogOffer = catalogOffers.get(indexedOffer.getIdentifier());
+
+                if (catalogOffer != null
+                        && indexedOffer.getNamespace().equals(catalogOffer.getNamespace())
+                        && indexedOffer.getOfferId().equals(catalogOffer.getOfferId())) {
+                    catalogOffers.remove(indexedOffer.getIdentifier());
                 }
-              }
             }
-        """;
 
-        Map<String, Object> variables = Map.of("keyword", gameName, "locale", "pt-BR", "country", "BR");
-        return Map.of("query", query, "variables", variables, "operationName", "searchStoreQuery");
+            epicCatalogOfferRepository.saveAll(catalogOffers.values());
+        } catch (DataAccessException e) {
+            log.warn("Could not index {} Epic catalog offers: {}", catalogOffers.size(), e.getMessage());
+        }
+    }
+
+    private String getCacheKey(String identifier) {
+        return identifier + ":" + epicConfig.getCountry() + ":" + epicConfig.getLocale();
+    }
+
+    private Map<String, Object> getCatalogOfferBatchGraphQLRequest(List<EpicCatalogOffer> catalogOffers,
+                                                                  EpicQueryProfile profile) {
+        Map<String, Object> variables = new HashMap<>();
+
+        for (int i = 0; i < catalogOffers.size(); i++) {
+            variables.put("namespace" + i, catalogOffers.get(i).getNamespace());
+            variables.put("offerId" + i, catalogOffers.get(i).getOfferId());
+        }
+
+        variables.put("locale", epicConfig.getLocale());
+        variables.put("country", epicConfig.getCountry());
+        return Map.of(
+                "query", epicGraphQLQueries.getCatalogOfferBatchQuery(profile, catalogOffers.size()),
+                "variables", variables,
+                "operationName", "catalogOfferBatchQuery"
+        );
+    }
+
+    private Map<String, Object> getBatchGraphQLRequest(List<String> identifiers, EpicQueryProfile profile) {
+        Map<String, Object> variables = new HashMap<>();
+
+        for (int i = 0; i < identifiers.size(); i++) {
+            variables.put("keyword" + i, identifiers.get(i));
+        }
+
+        variables.put("locale", epicConfig.getLocale());
+        variables.put("country", epicConfig.getCountry());
+        return Map.of(
+                "query", epicGraphQLQueries.getSearchStoreBatchQuery(profile, identifiers.size()),
+                "variables", variables,
+                "operationName", "searchStoreBatchQuery"
+        );
+    }
+
+    private Map<String, Object> getGraphQLRequest(String gameName, int start, int count) {
+        Map<String, Object> variables = Map.of(
+                "keyword", gameName,
+                "start", start,
+                "count", count,
+                "locale", epicConfig.getLocale(),
+                "country", epicConfig.getCountry()
+        );
+        return Map.of("query", epicGraphQLQueries.getSearchQuery(), "variables", variables, "operationName", "searchStoreQuery");
     }
 }
@@ -0,0 +1,128 @@
+package com.igorsouza.games.services.integrations.epic;
+
+import com.igorsouza.games.enums.EpicQueryProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class EpicGraphQLQueries {
+
+    private static final String FULL_FIELDS = """
+            id
+            namespace
+            title
+            productSlug
+            urlSlug
+            keyImages {
+              url
+            }
+            categories {
+              path
+            }
+            tags {
+              name
+            }
+            price(country: $country) {
+              totalPrice {
+                discountPrice
+                originalPrice
+              }
+            }
+            catalogNs {
+              mappings {
+                pageSlug
+                pageType
+              }
+            }
+            """;
+
+    private static final String PRICE_FIELDS = """
+            id
+            namespace
+            title
+            price(country: $country) {
+              totalPrice {
+                discountPrice
+                originalPrice
+              }
+            }
+            """;
+
+    private final String searchQuery = """
+            query searchStoreQuery($keyword: String, $start: Int, $count: Int, $locale: String!, $country: String!) {
+              Catalog {
+                searchStore(
+                  keywords: $keyword,
+                  locale: $locale,
+                  country: $country,
+                  sortBy: "relevancy"
+                  sortDir: "DESC"
+                  start: $start,
+                  count: $count
+                ) {
+                  elements {
+            %s      }
+                }
+              }
+            }
+            """.formatted(FULL_FIELDS);
+
+    private final Map<String, String> batchQueries = new ConcurrentHashMap<>();
+
+    public String getSearchQuery() {
+        return searchQuery;
+    }
+
+    public String getSearchStoreBatchQuery(EpicQueryProfile profile, int size) {
+        return batchQueries.computeIfAbsent("searchStore:" + profile + ":" + size, key -> {
+            StringBuilder variableDefinitions = new StringBuilder();
+            StringBuilder selections = new StringBuilder();
+
+            for (int i = 0; i < size; i++) {
+                variableDefinitions.append("$keyword").append(i).append(": String, ");
+                selections.append("""
+                        game%d: searchStore(
+                          keywords: $keyword%d,
+                          locale: $locale,
+                          country: $country,
+                          sortBy: "relevancy"
+                          sortDir: "DESC"
+                          start: 0,
+                          count: 1
+                        ) {
+                          elements {
+                        %s  }
+                        }
+                        """.formatted(i, i, getFields(profile)));
+            }
+
+            return "query searchStoreBatchQuery(" + variableDefinitions
+                    + "$locale: String!, $country: String!) {\nCatalog {\n" + selections + "}\n}";
+        });
+    }
+
+    public String getCatalogOfferBatchQuery(EpicQueryProfile profile, int size) {
+        return batchQueries.computeIfAbsent("catalogOffer:" + profile + ":" + size, key -> {
+            StringBuilder variableDefinitions = new StringBuilder();
+            StringBuilder selections = new StringBuilder();
+
+            for (int i = 0; i < size; i++) {
+                variableDefinitions.append("$namespace").append(i).append(": String!, ")
+                        .append("$offerId").append(i).append(": String!, ");
+                selections.append("""
+                        game%d: catalogOffer(namespace: $namespace%d, id: $offerId%d, locale: $locale) {
+                        %s}
+                        """.formatted(i, i, i, getFields(profile)));
+            }
+
+            return "query catalogOfferBatchQuery(" + variableDefinitions
+                    + "$locale: String!, $country: String!) {\nCatalog {\n" + selections + "}\n}";
+        });
+    }
+
+    private String getFields(EpicQueryProfile profile) {
+        return profile == EpicQueryProfile.PRICE ? PRICE_FIELDS : FULL_FIELDS;
+    }
+}
@@ -0,0 +1,126 @@
+package com.igorsouza.games.services.integrations.steam;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
+import com.igorsouza.games.dtos.games.steam.SteamGamePriceOverview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class SteamAppDetailsDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public SteamGameDetails decodeGameDetails(InputStream body, int gameId) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            String appId = String.valueOf(gameId);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                if (fieldName.equals(appId)) {
+                    return readAppData(parser);
+                }
+
+                parser.skipChildren();
+            }
+
+            return null;
+        }
+    }
+
+    public Map<Integer, SteamGamePriceOverview> decodeGamePrices(InputStream body) throws IOException {
+        Map<Integer, SteamGamePriceOverview> prices = new HashMap<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return prices;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int gameId = Integer.parseInt(parser.currentName());
+                parser.nextToken();
+
+                SteamGameDetails gameDetails = readAppData(parser);
+                if (gameDetails != null && gameDetails.getPriceOverview() != null) {
+                    prices.put(gameId, gameDetails.getPriceOverview());
+                }
+            }
+        }
+
+        return prices;
+    }
+
+    private SteamGameDetails readAppData(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        SteamGameDetails gameDetails = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (fieldName.equals("data") && valueToken == JsonToken.START_OBJECT) {
+                gameDetails = readGameDetails(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return gameDetails;
+    }
+
+    private SteamGameDetails readGameDetails(JsonParser parser) throws IOException {
+        SteamGameDetails gameDetails = new SteamGameDetails();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            switch (fieldName) {
+                case "name" -> gameDetails.setName(parser.getValueAsString());
+                case "is_free" -> gameDetails.setFree(parser.getValueAsBoolean());
+                case "header_image" -> gameDetails.setHeaderImage(parser.getValueAsString());
+                case "price_overview" -> {
+                    if (valueToken == JsonToken.START_OBJECT) {
+                        gameDetails.setPriceOverview(readPriceOverview(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        return gameDetails;
+    }
+
+    private SteamGamePriceOverview readPriceOverview(JsonParser parser) throws IOException {
+        SteamGamePriceOverview priceOverview = new SteamGamePriceOverview();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "initial" -> priceOverview.setInitialPrice(parser.getValueAsInt());
+                case "final" -> priceOverview.setFinalPrice(parser.getValueAsInt());
+                case "discount_percent" -> priceOverview.setDiscountPercent(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+
+        return priceOverview;
+    }
+}
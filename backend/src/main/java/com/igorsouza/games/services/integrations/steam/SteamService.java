@@ -1,10 +1,15 @@
 package com.igorsouza.games.services.integrations.steam;
 
+import com.igorsouza.games.dtos.games.StorePage;
 import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
+import com.igorsouza.games.dtos.games.steam.SteamGamePriceOverview;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SteamService {
-    List<SteamGameDetails> getGames(String gameName);
+    StorePage<SteamGameDetails> getGames(String gameName, int page);
     SteamGameDetails getGameDetails(Integer gameId);
+    Map<Integer, SteamGamePriceOverview> getGamePrices(Collection<Integer> gamesIds);
 }
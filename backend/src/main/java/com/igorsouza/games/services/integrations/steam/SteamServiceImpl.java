@@ -1,45 +1,229 @@
 package com.igorsouza.games.services.integrations.steam;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.igorsouza.games.config.app.SteamConfig;
+import com.igorsouza.games.config.cache.StoreCacheManagerConfig;
+import com.igorsouza.games.dtos.games.StorePage;
 import com.igorsouza.games.dtos.games.steam.SteamGame;
 import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
+import com.igorsouza.games.dtos.games.steam.SteamGamePriceOverview;
 import com.igorsouza.games.dtos.games.steam.SteamGameSearchResponse;
+import com.igorsouza.games.enums.RequestPriority;
+import com.igorsouza.games.enums.SteamDetailsFetchMode;
+import com.igorsouza.games.enums.SteamSearchMode;
+import com.igorsouza.games.services.integrations.upstream.UpstreamRequestPriority;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SteamServiceImpl implements SteamService {
 
-    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+    private final SteamAppDetailsDecoder steamAppDetailsDecoder;
+    private final SteamConfig steamConfig;
+    private final CacheManager storeCacheManager;
+    private final ExecutorService detailsExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Override
-    public List<SteamGameDetails> getGames(String gameName) {
-        List<Integer> gamesIds = getGamesIdsByName(gameName);
-        return gamesIds.stream().map(this::getGameDetails).toList();
+    public StorePage<SteamGameDetails> getGames(String gameName, int page) {
+        List<SteamGame> searchResults = searchGamesByName(gameName);
+        int fromIndex = Math.min(page * steamConfig.getPageSize(), searchResults.size());
+        int toIndex = Math.min(fromIndex + steamConfig.getPageSize(), searchResults.size());
+        List<SteamGame> pageResults = searchResults.subList(fromIndex, toIndex);
+        boolean hasMore = toIndex < searchResults.size();
+
+        if (steamConfig.getSearchMode() == SteamSearchMode.SUMMARY) {
+            return new StorePage<>(pageResults.stream().map(this::parseSearchResultToGameDetails).toList(), hasMore);
+        }
+
+        List<Integer> gamesIds = pageResults.stream().map(SteamGame::getId).toList();
+
+        if (steamConfig.getDetailsFetchMode() == SteamDetailsFetchMode.PARALLEL) {
+            return new StorePage<>(getGamesDetailsConcurrently(gamesIds), hasMore);
+        }
+
+        return new StorePage<>(gamesIds.stream().map(this::getGameDetails).toList(), hasMore);
     }
 
     public SteamGameDetails getGameDetails(Integer gameId) {
-        String url = "https://store.steampowered.com/api/appdetails?cc=br&l=portuguese&appids=" + gameId;
-        RestTemplate restTemplate = new RestTemplate();
-        Map<String, Object> gameDetailsResponse = restTemplate.getForObject(url, Map.class);
-        Map<String, Object> gameDetailsWrapper = (Map<String, Object>) gameDetailsResponse.get(String.valueOf(gameId));
-        SteamGameDetails gameDetails = objectMapper.convertValue(gameDetailsWrapper.get("data"), SteamGameDetails.class);
+        Cache detailsCache = storeCacheManager.getCache(StoreCacheManagerConfig.STEAM_GAME_DETAILS);
+        SteamGameDetails cachedGameDetails = detailsCache.get(getCacheKey(gameId), SteamGameDetails.class);
+
+        if (cachedGameDetails != null) {
+            return cachedGameDetails;
+        }
+
+        SteamGameDetails gameDetails = fetchGameDetails(gameId);
+        detailsCache.put(getCacheKey(gameId), gameDetails);
+        return gameDetails;
+    }
+
+    @Override
+    public Map<Integer, SteamGamePriceOverview> getGamePrices(Collection<Integer> gamesIds) {
+        Cache pricesCache = storeCacheManager.getCache(StoreCacheManagerConfig.STEAM_GAME_PRICES);
+        Map<Integer, SteamGamePriceOverview> prices = new HashMap<>();
+        List<Integer> missingGamesIds = new ArrayList<>();
+
+        for (Integer gameId : new LinkedHashSet<>(gamesIds)) {
+            Cache.ValueWrapper cachedPrice = pricesCache.get(getCacheKey(gameId));
+
+            if (cachedPrice == null) {
+                missingGamesIds.add(gameId);
+            } else if (cachedPrice.get() != null) {
+                prices.put(gameId, (SteamGamePriceOverview) cachedPrice.get());
+            }
+        }
+
+        int batchSize = steamConfig.getPricesBatchSize();
+
+        for (int start = 0; start < missingGamesIds.size(); start += batchSize) {
+            List<Integer> batch = missingGamesIds.subList(start, Math.min(start + batchSize, missingGamesIds.size()));
+            Map<Integer, SteamGamePriceOverview> batchPrices = fetchGamePricesBatch(batch);
+
+            for (Integer gameId : batch) {
+                pricesCache.put(getCacheKey(gameId), batchPrices.get(gameId));
+            }
+
+            prices.putAll(batchPrices);
+        }
+
+        return prices;
+    }
+
+    @PreDestroy
+    public void shutdownDetailsExecutor() {
+        detailsExecutor.shutdownNow();
+    }
+
+    private List<SteamGameDetails> getGamesDetailsConcurrently(List<Integer> gamesIds) {
+        Semaphore permits = new Semaphore(steamConfig.getDetailsConcurrency());
+        RequestPriority priority = UpstreamRequestPriority.current();
+        List<Callable<SteamGameDetails>> tasks = gamesIds.stream().<Callable<SteamGameDetails>>map(gameId -> () -> {
+            permits.acquire();
+            try {
+                return UpstreamRequestPriority.callWith(priority, () -> getGameDetails(gameId));
+            } finally {
+                permits.release();
+            }
+        }).toList();
+
+        List<Future<SteamGameDetails>> futures;
+        try {
+            futures = detailsExecutor.invokeAll(
+                    tasks,
+                    steamConfig.getSearchTimeout().toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+
+        List<SteamGameDetails> games = new ArrayList<>();
+
+        for (int i = 0; i < futures.size(); i++) {
+            Future<SteamGameDetails> future = futures.get(i);
+
+            if (future.isCancelled()) {
+                log.warn("Steam details for app {} did not arrive before the search deadline.", gamesIds.get(i));
+                continue;
+            }
+
+            try {
+                games.add(future.get());
+            } catch (ExecutionException e) {
+                log.warn("Could not fetch Steam details for app {}: {}", gamesIds.get(i), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return games;
+    }
+
+    private SteamGameDetails fetchGameDetails(Integer gameId) {
+        String url = "https://store.steampowered.com/api/appdetails?cc=" + steamConfig.getCountry()
+                + "&l=" + steamConfig.getLanguage() + "&appids=" + gameId;
+        SteamGameDetails gameDetails = restTemplate.execute(url, HttpMethod.GET, null, response ->
+                steamAppDetailsDecoder.decodeGameDetails(response.getBody(), gameId));
+
+        if (gameDetails == null) {
+            throw new RestClientException("Steam returned no details for app " + gameId + ".");
+        }
 
         gameDetails.setIdentifier(String.valueOf(gameId));
         gameDetails.setUrl("https://store.steampowered.com/app/" + gameId);
+
+        Cache pricesCache = storeCacheManager.getCache(StoreCacheManagerConfig.STEAM_GAME_PRICES);
+        pricesCache.put(getCacheKey(gameId), gameDetails.getPriceOverview());
         return gameDetails;
     }
 
-    private List<Integer> getGamesIdsByName(String gameName) {
-        RestTemplate restTemplate = new RestTemplate();
-        String url = "https://store.steampowered.com/api/storesearch?cc=br&l=portuguese&term=" + gameName;
+    private Map<Integer, SteamGamePriceOverview> fetchGamePricesBatch(List<Integer> gamesIds) {
+        String appIds = gamesIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        String url = "https://store.steampowered.com/api/appdetails?cc=" + steamConfig.getCountry()
+                + "&filters=price_overview&appids=" + appIds;
+        Map<Integer, SteamGamePriceOverview> prices = restTemplate.execute(url, HttpMethod.GET, null, response ->
+                steamAppDetailsDecoder.decodeGamePrices(response.getBody()));
+
+        return prices == null ? Map.of() : prices;
+    }
+
+    private String getCacheKey(Integer gameId) {
+        return gameId + ":" + steamConfig.getCountry() + ":" + steamConfig.getLanguage();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SteamGame> searchGamesByName(String gameName) {
+        Cache searchCache = storeCacheManager.getCache(StoreCacheManagerConfig.STEAM_SEARCH);
+        String cacheKey = gameName.trim().toLowerCase() + ":" + steamConfig.getCountry() + ":" + steamConfig.getLanguage();
+        List<SteamGame> cachedSearchResults = searchCache.get(cacheKey, List.class);
+
+        if (cachedSearchResults != null) {
+            return cachedSearchResults;
+        }
+
+        String url = "https://store.steampowered.com/api/storesearch?cc=" + steamConfig.getCountry()
+                + "&l=" + steamConfig.getLanguage() + "&term=" + gameName;
         SteamGameSearchResponse response = restTemplate.getForObject(url, SteamGameSearchResponse.class);
 
-        return response.getItems().stream().map(SteamGame::getId).toList();
+        List<SteamGame> searchResults = response.getItems() == null ? List.of() : response.getItems();
+        searchCache.put(cacheKey, searchResults);
+        return searchResults;
+    }
+
+    private SteamGameDetails parseSearchResultToGameDetails(SteamGame game) {
+        SteamGamePriceOverview gamePrice = game.getPriceOverview();
+
+        boolean hasUnreportedDiscount = gamePrice != null
+                && gamePrice.getDiscountPercent() == 0
+                && gamePrice.getFinalPrice() < gamePrice.getInitialPrice();
+
+        if (hasUnreportedDiscount) {
+            double finalPriceRatio = (double) gamePrice.getFinalPrice() / gamePrice.getInitialPrice();
+            gamePrice.setDiscountPercent((int) Math.round(100 - finalPriceRatio * 100));
+        }
+
+        SteamGameDetails gameDetails = new SteamGameDetails();
+        gameDetails.setIdentifier(String.valueOf(game.getId()));
+        gameDetails.setName(game.getName());
+        gameDetails.setFree(gamePrice == null);
+        gameDetails.setHeaderImage(game.getTinyImage());
+        gameDetails.setPriceOverview(gamePrice);
+        gameDetails.setUrl("https://store.steampowered.com/app/" + game.getId());
+        return gameDetails;
     }
 }
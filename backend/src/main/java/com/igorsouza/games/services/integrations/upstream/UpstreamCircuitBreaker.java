@@ -0,0 +1,94 @@
+package com.igorsouza.games.services.integrations.upstream;
+
+import com.igorsouza.games.config.app.UpstreamConfig;
+import com.igorsouza.games.enums.CircuitBreakerState;
+import lombok.Getter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public class UpstreamCircuitBreaker {
+
+    @Getter
+    private final String name;
+
+    private final UpstreamConfig.Upstream config;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public UpstreamCircuitBreaker(String name, UpstreamConfig.Upstream config) {
+        this.name = name;
+        this.config = config;
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == CircuitBreakerState.OPEN
+                    && System.nanoTime() - openedAtNanos >= config.getCircuitOpenDuration().toNanos()) {
+                state = CircuitBreakerState.HALF_OPEN;
+            }
+
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (probeInFlight) yield false;
+                    probeInFlight = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            state = CircuitBreakerState.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+
+            if (state == CircuitBreakerState.HALF_OPEN
+                    || consecutiveFailures >= config.getCircuitFailureThreshold()) {
+                state = CircuitBreakerState.OPEN;
+                openedAtNanos = System.nanoTime();
+            }
+
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CircuitBreakerState getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.igorsouza.games.services.integrations.upstream;
+
+import com.igorsouza.games.config.app.UpstreamConfig;
+import com.igorsouza.games.enums.RequestPriority;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class UpstreamLimiter {
+
+    private static final double MIN_REQUESTS_PER_SECOND = 0.1;
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final UpstreamConfig.Upstream config;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitsChanged = lock.newCondition();
+
+    private double tokens;
+    private double requestsPerSecond;
+    private int concurrencyLimit;
+    private int inFlight;
+    private int waitingInteractive;
+    private int successesSinceIncrease;
+    private long lastRefillNanos = System.nanoTime();
+    private long blockedUntilNanos = lastRefillNanos;
+
+    public UpstreamLimiter(String name, UpstreamConfig.Upstream config) {
+        this.name = name;
+        this.config = config;
+        this.tokens = config.getBurst();
+        this.requestsPerSecond = config.getRequestsPerSecond();
+        this.concurrencyLimit = config.getMaxConcurrency();
+    }
+
+    public boolean acquire(RequestPriority priority, Duration timeout) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+
+        lock.lock();
+        try {
+            if (priority == RequestPriority.INTERACTIVE) waitingInteractive++;
+
+            try {
+                while (!tryTakePermit(priority)) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) return false;
+
+                    permitsChanged.awaitNanos(Math.min(remainingNanos, getWaitNanos()));
+                }
+
+                return true;
+            } finally {
+                if (priority == RequestPriority.INTERACTIVE) waitingInteractive--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            inFlight--;
+            requestsPerSecond = Math.min(config.getRequestsPerSecond(), requestsPerSecond * 1.05);
+
+            if (++successesSinceIncrease >= concurrencyLimit) {
+                concurrencyLimit = Math.min(config.getMaxConcurrency(), concurrencyLimit + 1);
+                successesSinceIncrease = 0;
+            }
+
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            inFlight--;
+            requestsPerSecond = Math.max(MIN_REQUESTS_PER_SECOND, requestsPerSecond / 2);
+            concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+            successesSinceIncrease = 0;
+            tokens = Math.min(tokens, 0);
+
+            if (retryAfter != null) {
+                blockedUntilNanos = Math.max(blockedUntilNanos, System.nanoTime() + retryAfter.toNanos());
+            }
+
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getRequestsPerSecond() {
+        lock.lock();
+        try {
+            return requestsPerSecond;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryTakePermit(RequestPriority priority) {
+        long now = System.nanoTime();
+        refillTokens(now);
+
+        if (now < blockedUntilNanos || tokens < 1 || inFlight >= getConcurrencyLimitFor(priority)) {
+            return false;
+        }
+
+        if (priority == RequestPriority.BACKGROUND && waitingInteractive > 0) {
+            return false;
+        }
+
+        tokens -= 1;
+        inFlight++;
+        return true;
+    }
+
+    private int getConcurrencyLimitFor(RequestPriority priority) {
+        if (priority == RequestPriority.INTERACTIVE) {
+            return concurrencyLimit;
+        }
+
+        int interactiveReserve = (int) Math.ceil(concurrencyLimit * config.getInteractiveShare());
+        return Math.max(1, concurrencyLimit - interactiveReserve);
+    }
+
+    private void refillTokens(long now) {
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        tokens = Math.min(config.getBurst(), tokens + elapsedSeconds * requestsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    private long getWaitNanos() {
+        long now = System.nanoTime();
+
+        if (now < blockedUntilNanos) {
+            return blockedUntilNanos - now;
+        }
+
+        if (tokens < 1) {
+            long nanosUntilNextToken = (long) ((1 - tokens) / requestsPerSecond * 1_000_000_000L);
+            return Math.max(1, Math.min(MAX_WAIT_NANOS, nanosUntilNextToken));
+        }
+
+        return MAX_WAIT_NANOS;
+    }
+}
@@ -0,0 +1,48 @@
+package com.igorsouza.games.services.integrations.upstream;
+
+import com.igorsouza.games.config.app.UpstreamConfig;
+import com.igorsouza.games.enums.CircuitBreakerState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class UpstreamLimiterRegistry {
+
+    private final Map<String, UpstreamLimiter> limitersByHost = new HashMap<>();
+    private final Map<String, UpstreamCircuitBreaker> circuitBreakersByHost = new HashMap<>();
+
+    public UpstreamLimiterRegistry(UpstreamConfig upstreamConfig, MeterRegistry meterRegistry) {
+        upstreamConfig.getUpstreams().forEach((name, config) -> {
+            UpstreamLimiter limiter = new UpstreamLimiter(name, config);
+            UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(name, config);
+            limitersByHost.put(config.getHost(), limiter);
+            circuitBreakersByHost.put(config.getHost(), circuitBreaker);
+
+            Gauge.builder("store.upstream.concurrency.limit", limiter, UpstreamLimiter::getConcurrencyLimit)
+                    .tag("store", name)
+                    .register(meterRegistry);
+            Gauge.builder("store.upstream.in.flight", limiter, UpstreamLimiter::getInFlight)
+                    .tag("store", name)
+                    .register(meterRegistry);
+            Gauge.builder("store.upstream.rate", limiter, UpstreamLimiter::getRequestsPerSecond)
+                    .tag("store", name)
+                    .register(meterRegistry);
+            Gauge.builder("store.upstream.circuit.open", circuitBreaker,
+                            breaker -> breaker.getState() == CircuitBreakerState.CLOSED ? 0 : 1)
+                    .tag("store", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    public UpstreamLimiter getLimiter(String host) {
+        return limitersByHost.get(host);
+    }
+
+    public UpstreamCircuitBreaker getCircuitBreaker(String host) {
+        return circuitBreakersByHost.get(host);
+    }
+}
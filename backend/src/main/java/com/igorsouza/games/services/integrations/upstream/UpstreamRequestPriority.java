@@ -0,0 +1,36 @@
+package com.igorsouza.games.services.integrations.upstream;
+
+import com.igorsouza.games.enums.RequestPriority;
+
+import java.util.function.Supplier;
+
+public final class UpstreamRequestPriority {
+
+    private static final ThreadLocal<RequestPriority> CURRENT_PRIORITY =
+            ThreadLocal.withInitial(() -> RequestPriority.INTERACTIVE);
+
+    private UpstreamRequestPriority() {
+    }
+
+    public static RequestPriority current() {
+        return CURRENT_PRIORITY.get();
+    }
+
+    public static void runWith(RequestPriority priority, Runnable task) {
+        callWith(priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T callWith(RequestPriority priority, Supplier<T> task) {
+        RequestPriority previousPriority = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
+
+        try {
+            return task.get();
+        } finally {
+            CURRENT_PRIORITY.set(previousPriority);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.igorsouza.games.services.integrations.upstream;
+
+import com.igorsouza.games.enums.RequestPriority;
+import com.igorsouza.games.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamThrottlingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamLimiterRegistry upstreamLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamLimiter limiter = upstreamLimiterRegistry.getLimiter(request.getURI().getHost());
+
+        if (limiter == null) {
+            return execution.execute(request, body);
+        }
+
+        UpstreamCircuitBreaker circuitBreaker = upstreamLimiterRegistry.getCircuitBreaker(request.getURI().getHost());
+
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter("store.upstream.rejected", "store", limiter.getName()).increment();
+            throw new ServiceUnavailableException("Store " + limiter.getName() + " is temporarily unavailable.");
+        }
+
+        ClientHttpResponse response;
+        try {
+            response = executeWithRetries(request, body, execution, limiter);
+        } catch (ServiceUnavailableException e) {
+            circuitBreaker.release();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                circuitBreaker.release();
+            } else {
+                circuitBreaker.onFailure();
+            }
+
+            throw e;
+        }
+
+        int status = response.getStatusCode().value();
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() || response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+
+        return response;
+    }
+
+    private ClientHttpResponse executeWithRetries(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+                                                  UpstreamLimiter limiter) throws IOException {
+        RequestPriority priority = UpstreamRequestPriority.current();
+
+        for (int attempt = 0; ; attempt++) {
+            acquirePermit(limiter, priority);
+
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                limiter.onFailure();
+                throw e;
+            }
+
+            int status = response.getStatusCode().value();
+            boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+            Duration retryAfter = throttled ? parseRetryAfter(response.getHeaders()) : null;
+
+            if (throttled) {
+                limiter.onThrottled(retryAfter);
+                meterRegistry.counter("store.upstream.throttled", "store", limiter.getName()).increment();
+            } else if (response.getStatusCode().is5xxServerError()) {
+                limiter.onFailure();
+            } else {
+                limiter.onSuccess();
+                return response;
+            }
+
+            Duration backoff = getBackoff(limiter, attempt, retryAfter);
+            if (attempt >= limiter.getConfig().getMaxRetries() || backoff == null) {
+                return response;
+            }
+
+            response.close();
+            meterRegistry.counter("store.upstream.retries", "store", limiter.getName()).increment();
+            log.warn("{} answered {} for {}, retrying in {} ms.", limiter.getName(), status, request.getURI(),
+                    backoff.toMillis());
+            sleep(backoff);
+        }
+    }
+
+    private void acquirePermit(UpstreamLimiter limiter, RequestPriority priority) throws InterruptedIOException {
+        boolean acquired;
+        try {
+            acquired = limiter.acquire(priority, limiter.getConfig().getAcquireTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a " + limiter.getName() + " permit.");
+        }
+
+        if (!acquired) {
+            meterRegistry.counter("store.upstream.acquire.timeouts", "store", limiter.getName()).increment();
+            throw new ServiceUnavailableException("Store " + limiter.getName() + " is busy, try again later.");
+        }
+    }
+
+    private void sleep(Duration backoff) throws InterruptedIOException {
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off.");
+        }
+    }
+
+    private Duration getBackoff(UpstreamLimiter limiter, int attempt, Duration retryAfter) {
+        Duration maxBackoff = limiter.getConfig().getMaxBackoff();
+
+        if (retryAfter != null && retryAfter.compareTo(maxBackoff) > 0) {
+            return null;
+        }
+
+        long exponentialMillis = limiter.getConfig().getInitialBackoff().toMillis() << Math.min(attempt, 16);
+        long cappedMillis = Math.min(maxBackoff.toMillis(), exponentialMillis);
+        Duration jitteredBackoff = Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedMillis / 2, cappedMillis + 1));
+
+        return retryAfter != null && retryAfter.compareTo(jitteredBackoff) > 0 ? retryAfter : jitteredBackoff;
+    }
+
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration untilRetry = Duration.between(ZonedDateTime.now(), retryAt);
+                return untilRetry.isNegative() ? Duration.ZERO : untilRetry;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.igorsouza.games.services.mail;
+
+import com.igorsouza.games.config.app.MailOutboxConfig;
+import com.igorsouza.games.enums.MailOutboxStatus;
+import com.igorsouza.games.models.MailOutboxMessage;
+import com.igorsouza.games.repositories.MailOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class MailOutboxWorker {
+
+    private static final Duration PRUNE_INTERVAL = Duration.ofHours(1);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MailOutboxConfig mailOutboxConfig;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService deliveryExecutor;
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final Timer batchTimer;
+
+    private volatile boolean running = true;
+    private Instant lastPrunedAt = Instant.EPOCH;
+    private Thread pollerThread;
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository, JavaMailSender mailSender,
+                            MailOutboxConfig mailOutboxConfig, MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.mailOutboxConfig = mailOutboxConfig;
+        this.meterRegistry = meterRegistry;
+        this.deliveryExecutor = Executors.newFixedThreadPool(
+                mailOutboxConfig.getWorkers(),
+                Thread.ofPlatform().name("mail-outbox-worker-", 0).daemon().factory()
+        );
+        this.batchTimer = meterRegistry.timer("mail.outbox.batch");
+
+        Gauge.builder("mail.outbox.pending", pendingMessages, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        pollerThread = Thread.ofPlatform().name("mail-outbox-poller").daemon().start(this::pollLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        pollerThread.interrupt();
+        deliveryExecutor.shutdown();
+
+        if (!deliveryExecutor.awaitTermination(mailOutboxConfig.getPollInterval().toMillis() * 10, TimeUnit.MILLISECONDS)) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                if (poll() == 0) {
+                    Thread.sleep(mailOutboxConfig.getPollInterval());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not poll the mail outbox: {}", e.getMessage());
+
+                try {
+                    Thread.sleep(mailOutboxConfig.getPollInterval());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int poll() throws InterruptedException {
+        Instant now = Instant.now();
+        mailOutboxRepository.releaseExpiredClaims(now);
+        pruneSentMessages(now);
+        pendingMessages.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+
+        List<UUID> dueIds = mailOutboxRepository.findDueIds(now, Limit.of(mailOutboxConfig.getBatchSize()));
+        if (dueIds.isEmpty()) return 0;
+
+        UUID claimToken = UUID.randomUUID();
+        mailOutboxRepository.claim(dueIds, claimToken, now.plus(mailOutboxConfig.getClaimTimeout()));
+        List<MailOutboxMessage> messages = mailOutboxRepository.findAllByClaimToken(claimToken);
+        List<Future<?>> deliveries = new ArrayList<>();
+        int messagesPerConnection = mailOutboxConfig.getMessagesPerConnection();
+
+        for (int start = 0; start < messages.size(); start += messagesPerConnection) {
+            List<MailOutboxMessage> batch = messages.subList(start, Math.min(start + messagesPerConnection, messages.size()));
+            deliveries.add(deliveryExecutor.submit(() -> batchTimer.record(() -> deliver(claimToken, batch))));
+        }
+
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (ExecutionException e) {
+                log.warn("Mail outbox delivery failed: {}", e.getCause().getMessage());
+            }
+        }
+
+        return messages.size();
+    }
+
+    private void deliver(UUID claimToken, List<MailOutboxMessage> messages) {
+        Map<MimeMessage, MailOutboxMessage> mimeMessages = new LinkedHashMap<>();
+
+        for (MailOutboxMessage message : messages) {
+            try {
+                mimeMessages.put(createMimeMessage(message), message);
+            } catch (MessagingException e) {
+                scheduleRetry(message, e);
+            }
+        }
+
+        if (mimeMessages.isEmpty()) return;
+
+        List<MailOutboxMessage> sentMessages = new ArrayList<>();
+
+        try {
+            mailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+            sentMessages.addAll(mimeMessages.values());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+
+            mimeMessages.forEach((mimeMessage, message) -> {
+                if (failedMessages.containsKey(mimeMessage)) {
+                    scheduleRetry(message, failedMessages.get(mimeMessage));
+                } else if (failedMessages.isEmpty()) {
+                    scheduleRetry(message, e);
+                } else {
+                    sentMessages.add(message);
+                }
+            });
+        } catch (MailException e) {
+            mimeMessages.values().forEach(message -> scheduleRetry(message, e));
+        }
+
+        if (!sentMessages.isEmpty()) {
+            int markedSent = mailOutboxRepository.markSent(
+                    sentMessages.stream().map(MailOutboxMessage::getId).toList(), claimToken, Instant.now());
+            meterRegistry.counter("mail.outbox.sent").increment(sentMessages.size());
+
+            if (markedSent < sentMessages.size()) {
+                log.warn("Claim on {} sent mails expired before they were marked sent, they may be sent again.",
+                        sentMessages.size() - markedSent);
+            }
+        }
+    }
+
+    private MimeMessage createMimeMessage(MailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        mimeMessageHelper.setTo(message.getRecipient());
+        mimeMessageHelper.setSubject(message.getSubject());
+        mimeMessageHelper.setText(message.getHtml(), true);
+        return mimeMessage;
+    }
+
+    private void scheduleRetry(MailOutboxMessage message, Exception cause) {
+        int attempts = message.getAttempts() + 1;
+        String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        boolean failed = attempts >= mailOutboxConfig.getMaxAttempts();
+        Instant nextAttemptAt = failed ? message.getNextAttemptAt() : Instant.now().plus(getBackoff(attempts));
+
+        int updated = mailOutboxRepository.markAttemptFailed(
+                message.getId(),
+                message.getClaimToken(),
+                failed ? MailOutboxStatus.FAILED : MailOutboxStatus.PENDING,
+                attempts,
+                error.length() > 1000 ? error.substring(0, 1000) : error,
+                nextAttemptAt
+        );
+
+        if (updated == 0) {
+            log.warn("Claim on mail {} expired before its failed attempt was recorded.", message.getId());
+        } else if (failed) {
+            meterRegistry.counter("mail.outbox.failed").increment();
+            log.error("Giving up on mail {} to {} after {} attempts: {}", message.getId(), message.getRecipient(),
+                    attempts, error);
+        } else {
+            meterRegistry.counter("mail.outbox.retried").increment();
+        }
+    }
+
+    private Duration getBackoff(int attempts) {
+        long exponentialMillis = mailOutboxConfig.getInitialBackoff().toMillis() << Math.min(attempts - 1, 16);
+        long cappedMillis = Math.min(mailOutboxConfig.getMaxBackoff().toMillis(), exponentialMillis);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedMillis / 2, cappedMillis + 1));
+    }
+
+    private void pruneSentMessages(Instant now) {
+        if (Duration.between(lastPrunedAt, now).compareTo(PRUNE_INTERVAL) < 0) return;
+
+        mailOutboxRepository.deleteAllSentBefore(now.minus(mailOutboxConfig.getSentRetention()));
+        lastPrunedAt = now;
+    }
+}
@@ -1,18 +1,25 @@
 package com.igorsouza.games.services.mail;
 
+import com.igorsouza.games.config.cache.StoreCacheManagerConfig;
 import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.enums.MailOutboxStatus;
+import com.igorsouza.games.models.MailOutboxMessage;
+import com.igorsouza.games.repositories.MailOutboxRepository;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import freemarker.template.TemplateException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,55 +28,77 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MailServiceImpl implements MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
     private final Configuration freemarkerConfig;
+    private final CacheManager storeCacheManager;
 
     @Value("${FRONTEND_URL}")
     private String frontendUrl;
 
+    private Template discountEmailTemplate;
+    private Template discountEmailRowTemplate;
+    private Template verificationEmailTemplate;
+
+    @PostConstruct
+    public void loadTemplates() throws IOException {
+        discountEmailTemplate = freemarkerConfig.getTemplate("discount-email.ftl");
+        discountEmailRowTemplate = freemarkerConfig.getTemplate("discount-email-row.ftl");
+        verificationEmailTemplate = freemarkerConfig.getTemplate("verification-email.ftl");
+    }
+
     @Override
     public void sendDiscountWarningMail(String to, String subject, List<GenericGame> games) throws MailException {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            Template template = freemarkerConfig.getTemplate("discount-email.ftl");
+        Cache rowsCache = storeCacheManager.getCache(StoreCacheManagerConfig.DISCOUNT_EMAIL_ROWS);
+        List<String> rows = games.stream().map(game -> renderDiscountEmailRow(rowsCache, game)).toList();
 
-            Map<String, Object> model = new HashMap<>();
-            model.put("games", games);
+        Map<String, Object> model = new HashMap<>();
+        model.put("rows", rows);
 
-            StringWriter html = new StringWriter();
-            template.process(model, html);
-            configureMimeMessageHelper(message, to, subject, html.toString());
-
-            mailSender.send(message);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        enqueue(to, subject, processTemplate(discountEmailTemplate, model));
     }
 
     @Override
     public void sendVerificationMail(String to, String subject, String token) throws MailException {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            Template template = freemarkerConfig.getTemplate("verification-email.ftl");
+        Map<String, Object> model = new HashMap<>();
+        model.put("token", token);
+        model.put("link", frontendUrl + "/auth/verify?token=" + token);
+
+        enqueue(to, subject, processTemplate(verificationEmailTemplate, model));
+    }
 
-            Map<String, Object> model = new HashMap<>();
-            model.put("token", token);
-            model.put("link", frontendUrl + "/auth/verify?token=" + token);
+    private void enqueue(String to, String subject, String html) {
+        mailOutboxRepository.save(MailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .html(html)
+                .status(MailOutboxStatus.PENDING)
+                .nextAttemptAt(Instant.now())
+                .build());
+    }
 
+    private String processTemplate(Template template, Map<String, Object> model) throws MailException {
+        try {
             StringWriter html = new StringWriter();
             template.process(model, html);
-            configureMimeMessageHelper(message, to, subject, html.toString());
+            return html.toString();
+        } catch (IOException | TemplateException e) {
+            throw new MailPreparationException("Could not render mail template " + template.getName() + ".", e);
+        }
+    }
 
-            mailSender.send(message);
-        } catch (Exception e) {
-            e.printStackTrace();
+    private String renderDiscountEmailRow(Cache rowsCache, GenericGame game) throws MailException {
+        try {
+            return rowsCache.get(
+                    getRowCacheKey(game),
+                    () -> processTemplate(discountEmailRowTemplate, Map.of("game", game))
+            );
+        } catch (Cache.ValueRetrievalException e) {
+            throw (MailException) e.getCause();
         }
     }
 
-    private void configureMimeMessageHelper(MimeMessage message, String to, String subject, String html) throws MessagingException {
-        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true, "UTF-8");
-        mimeMessageHelper.setTo(to);
-        mimeMessageHelper.setSubject(subject);
-        mimeMessageHelper.setText(html, true);
+    private String getRowCacheKey(GenericGame game) {
+        return game.getPlatform() + ":" + game.getIdentifier() + ":" + game.getInitialPrice() + ":"
+                + game.getDiscountPrice() + ":" + game.getDiscountPercent();
     }
 }
@@ -0,0 +1,176 @@
+package com.igorsouza.games.services.reviews;
+
+import com.igorsouza.games.config.app.GameReviewJobConfig;
+import com.igorsouza.games.enums.GameReviewJobStatus;
+import com.igorsouza.games.models.GameReview;
+import com.igorsouza.games.models.GameReviewJob;
+import com.igorsouza.games.repositories.GameReviewJobRepository;
+import com.igorsouza.games.repositories.GameReviewRepository;
+import com.igorsouza.games.services.azure.AzureService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class GameReviewJobWorker {
+
+    private final GameReviewJobRepository gameReviewJobRepository;
+    private final GameReviewRepository gameReviewRepository;
+    private final AzureService azureService;
+    private final GameReviewJobConfig gameReviewJobConfig;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor jobExecutor;
+    private final Set<UUID> queuedJobIds = ConcurrentHashMap.newKeySet();
+
+    public GameReviewJobWorker(GameReviewJobRepository gameReviewJobRepository,
+                               GameReviewRepository gameReviewRepository, AzureService azureService,
+                               GameReviewJobConfig gameReviewJobConfig, MeterRegistry meterRegistry) {
+        this.gameReviewJobRepository = gameReviewJobRepository;
+        this.gameReviewRepository = gameReviewRepository;
+        this.azureService = azureService;
+        this.gameReviewJobConfig = gameReviewJobConfig;
+        this.meterRegistry = meterRegistry;
+        this.jobExecutor = new ThreadPoolExecutor(
+                gameReviewJobConfig.getWorkers(),
+                gameReviewJobConfig.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(gameReviewJobConfig.getQueueCapacity()),
+                Thread.ofPlatform().name("review-job-worker-", 0).daemon().factory()
+        );
+
+        Gauge.builder("review.jobs.queued", queuedJobIds, Set::size).register(meterRegistry);
+    }
+
+    public boolean submit(UUID jobId) {
+        if (!queuedJobIds.add(jobId)) return true;
+
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    queuedJobIds.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedJobIds.remove(jobId);
+            return false;
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.review-jobs.sweep-interval}",
+            initialDelayString = "${app.review-jobs.sweep-interval}"
+    )
+    public void requeuePendingJobs() {
+        Instant now = Instant.now();
+        gameReviewJobRepository.releaseExpiredClaims(now);
+        gameReviewJobRepository.deleteAllFinishedBefore(Date.from(now.minus(gameReviewJobConfig.getRetention())));
+
+        for (UUID jobId : gameReviewJobRepository.findDueIds(now, Limit.of(gameReviewJobConfig.getQueueCapacity()))) {
+            if (!submit(jobId)) break;
+        }
+    }
+
+    @PreDestroy
+    public void shutdownJobExecutor() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(UUID jobId) {
+        Instant now = Instant.now();
+        UUID claimToken = UUID.randomUUID();
+        if (gameReviewJobRepository.claim(jobId, claimToken, now.plus(gameReviewJobConfig.getClaimTimeout()), now) == 0) {
+            return;
+        }
+
+        Optional<GameReviewJob> jobOptional = gameReviewJobRepository.findById(jobId);
+        if (jobOptional.isEmpty()) return;
+
+        GameReviewJob job = jobOptional.get();
+
+        try {
+            GameReview gameReview = getOrGenerateGameReview(job.getGameName());
+
+            if (gameReviewJobRepository.markCompleted(jobId, claimToken, gameReview.getId()) == 0) {
+                log.warn("Claim on review job {} expired before it completed.", jobId);
+            } else {
+                meterRegistry.counter("review.jobs", "state", "completed").increment();
+            }
+        } catch (InterruptedException e) {
+            gameReviewJobRepository.release(jobId, claimToken);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            scheduleRetry(job, claimToken, e);
+        }
+    }
+
+    private GameReview getOrGenerateGameReview(String gameName) throws InterruptedException {
+        Optional<GameReview> existingReview = gameReviewRepository.findByGameName(gameName);
+
+        if (existingReview.isPresent()) {
+            return existingReview.get();
+        }
+
+        String review = azureService.sendMessageToAssistant("Faça uma review detalhada do jogo " + gameName);
+        GameReview gameReview = GameReview.builder()
+                .gameName(gameName)
+                .review(review)
+                .aiGenerated(true)
+                .build();
+
+        try {
+            return gameReviewRepository.save(gameReview);
+        } catch (DataIntegrityViolationException e) {
+            return gameReviewRepository.findByGameName(gameName).orElseThrow(() -> e);
+        }
+    }
+
+    private void scheduleRetry(GameReviewJob job, UUID claimToken, Exception cause) {
+        int attempts = job.getAttempts() + 1;
+        String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        boolean failed = attempts >= gameReviewJobConfig.getMaxAttempts();
+
+        int updated = gameReviewJobRepository.markAttemptFailed(
+                job.getId(),
+                claimToken,
+                failed ? GameReviewJobStatus.FAILED : GameReviewJobStatus.PENDING,
+                attempts,
+                error.length() > 1000 ? error.substring(0, 1000) : error,
+                failed ? null : Instant.now().plus(getBackoff(attempts))
+        );
+
+        if (updated == 0) {
+            log.warn("Claim on review job {} expired before its failed attempt was recorded.", job.getId());
+        } else if (failed) {
+            meterRegistry.counter("review.jobs", "state", "failed").increment();
+            log.error("Giving up on review job {} for {} after {} attempts: {}", job.getId(), job.getGameName(),
+                    attempts, error);
+        } else {
+            meterRegistry.counter("review.jobs", "state", "retried").increment();
+            log.warn("Review job {} for {} failed and will be retried: {}", job.getId(), job.getGameName(), error);
+        }
+    }
+
+    private Duration getBackoff(int attempts) {
+        long exponentialMillis = gameReviewJobConfig.getInitialBackoff().toMillis() << Math.min(attempts - 1, 16);
+        long cappedMillis = Math.min(gameReviewJobConfig.getMaxBackoff().toMillis(), exponentialMillis);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedMillis / 2, cappedMillis + 1));
+    }
+}
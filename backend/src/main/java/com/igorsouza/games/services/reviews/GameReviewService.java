@@ -1,13 +1,15 @@
 package com.igorsouza.games.services.reviews;
 
 import com.igorsouza.games.dtos.games.Review;
+import com.igorsouza.games.dtos.games.ReviewJob;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 
 import java.util.UUID;
 
 public interface GameReviewService {
-    Review generateGameReview(String gameName) throws ConflictException, InterruptedException;
+    ReviewJob generateGameReview(String gameName) throws ConflictException;
+    ReviewJob getGameReviewJob(UUID jobId) throws NotFoundException;
     Review getGameReview(String gameName) throws NotFoundException;
     Review reviewGame(String gameName, String review) throws ConflictException;
     Review updateGameReview(UUID id, String review) throws NotFoundException;
@@ -1,14 +1,18 @@
 package com.igorsouza.games.services.reviews;
 
 import com.igorsouza.games.dtos.games.Review;
+import com.igorsouza.games.dtos.games.ReviewJob;
+import com.igorsouza.games.enums.GameReviewJobStatus;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.models.GameReview;
+import com.igorsouza.games.models.GameReviewJob;
+import com.igorsouza.games.repositories.GameReviewJobRepository;
 import com.igorsouza.games.repositories.GameReviewRepository;
-import com.igorsouza.games.services.azure.AzureService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,10 +20,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GameReviewServiceImpl implements GameReviewService {
 
-    private final AzureService azureService;
+    private static final List<GameReviewJobStatus> ACTIVE_JOB_STATUSES =
+            List.of(GameReviewJobStatus.PENDING, GameReviewJobStatus.RUNNING);
+
     private final GameReviewRepository gameReviewRepository;
+    private final GameReviewJobRepository gameReviewJobRepository;
+    private final GameReviewJobWorker gameReviewJobWorker;
 
-    public Review generateGameReview(String gameName) throws ConflictException, InterruptedException {
+    public ReviewJob generateGameReview(String gameName) throws ConflictException {
         String normalizedGameName = normalizeGameName(gameName);
         Optional<GameReview> existingReview = gameReviewRepository.findByGameName(normalizedGameName);
 
@@ -27,22 +35,25 @@ public class GameReviewServiceImpl implements GameReviewService {
             throw new ConflictException("Review for this game already exists.");
         }
 
-        String review = azureService.sendMessageToAssistant("Faça uma review detalhada do jogo " + gameName);
-        GameReview gameReview = GameReview.builder()
-                .gameName(normalizedGameName)
-                .review(review)
-                .aiGenerated(true)
-                .build();
+        GameReviewJob job = gameReviewJobRepository
+                .findFirstByGameNameAndStatusIn(normalizedGameName, ACTIVE_JOB_STATUSES)
+                .orElseGet(() -> gameReviewJobRepository.save(GameReviewJob.builder()
+                        .gameName(normalizedGameName)
+                        .status(GameReviewJobStatus.PENDING)
+                        .build()));
 
-        gameReview = gameReviewRepository.save(gameReview);
+        if (job.getStatus() == GameReviewJobStatus.PENDING) {
+            gameReviewJobWorker.submit(job.getId());
+        }
 
-        return new Review(
-                gameReview.getId(),
-                gameReview.getReview(),
-                gameReview.isAiGenerated(),
-                gameReview.getCreatedAt(),
-                gameReview.getUpdatedAt()
-        );
+        return getReviewJob(job);
+    }
+
+    public ReviewJob getGameReviewJob(UUID jobId) throws NotFoundException {
+        GameReviewJob job = gameReviewJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("Review job not found."));
+
+        return getReviewJob(job);
     }
 
     public Review getGameReview(String gameName) throws NotFoundException {
@@ -110,6 +121,24 @@ public class GameReviewServiceImpl implements GameReviewService {
         gameReviewRepository.delete(gameReview);
     }
 
+    private ReviewJob getReviewJob(GameReviewJob job) {
+        Review review = null;
+
+        if (job.getStatus() == GameReviewJobStatus.COMPLETED && job.getReviewId() != null) {
+            review = gameReviewRepository.findById(job.getReviewId())
+                    .map(gameReview -> new Review(
+                            gameReview.getId(),
+                            gameReview.getReview(),
+                            gameReview.isAiGenerated(),
+                            gameReview.getCreatedAt(),
+                            gameReview.getUpdatedAt()
+                    ))
+                    .orElse(null);
+        }
+
+        return new ReviewJob(job.getId(), job.getGameName(), job.getStatus(), review, job.getError());
+    }
+
     private String normalizeGameName(String gameName) {
         return gameName.trim().toLowerCase();
     }
@@ -0,0 +1,22 @@
+package com.igorsouza.games.services.scheduling;
+
+import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.models.GameId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface DiscountRunService {
+    Map<String, GenericGame> getDiscountedGames(String runKey, GamePlatform platform, List<String> identifiers,
+                                                Function<Collection<String>, Map<String, GenericGame>> fetchDiscountedGames);
+    Set<String> getNotifiedEmails(String runKey, Collection<String> emails);
+    List<GameId> getGameIdsToNotify(String runKey, Collection<UUID> userIds);
+    void markNotified(String runKey, String email, Map<GameId, GenericGame> games);
+    void deleteCreatedBefore(Instant createdAt);
+}
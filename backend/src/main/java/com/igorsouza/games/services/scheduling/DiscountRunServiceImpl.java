@@ -0,0 +1,186 @@
+package com.igorsouza.games.services.scheduling;
+
+import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.models.DiscountRunDelivery;
+import com.igorsouza.games.models.DiscountRunDeliveryId;
+import com.igorsouza.games.models.DiscountRunGame;
+import com.igorsouza.games.models.DiscountRunGameId;
+import com.igorsouza.games.models.GameId;
+import com.igorsouza.games.models.GameNotification;
+import com.igorsouza.games.repositories.DiscountRunDeliveryRepository;
+import com.igorsouza.games.repositories.DiscountRunGameRepository;
+import com.igorsouza.games.repositories.GameNotificationRepository;
+import com.igorsouza.games.repositories.GamesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiscountRunServiceImpl implements DiscountRunService {
+
+    private static final int NOTIFIED_EMAILS_BATCH_SIZE = 500;
+
+    private final DiscountRunGameRepository discountRunGameRepository;
+    private final DiscountRunDeliveryRepository discountRunDeliveryRepository;
+    private final GameNotificationRepository gameNotificationRepository;
+    private final GamesRepository gamesRepository;
+
+    @Override
+    public Map<String, GenericGame> getDiscountedGames(String runKey, GamePlatform platform, List<String> identifiers,
+                                                       Function<Collection<String>, Map<String, GenericGame>> fetchDiscountedGames) {
+        Map<String, DiscountRunGame> runGames = new HashMap<>();
+
+        for (DiscountRunGame runGame : discountRunGameRepository
+                .findAllByIdRunKeyAndIdPlatformAndIdPlatformIdentifierIn(runKey, platform, identifiers)) {
+            runGames.put(runGame.getId().getPlatformIdentifier(), runGame);
+        }
+
+        List<String> missingIdentifiers = identifiers.stream()
+                .filter(identifier -> !runGames.containsKey(identifier))
+                .toList();
+
+        if (!missingIdentifiers.isEmpty()) {
+            Map<String, GenericGame> fetchedGames = fetchDiscountedGames.apply(missingIdentifiers);
+            List<DiscountRunGame> fetchedRunGames = missingIdentifiers.stream()
+                    .map(identifier -> toRunGame(runKey, platform, identifier, fetchedGames.get(identifier)))
+                    .toList();
+
+            saveRunGames(runKey, platform, fetchedRunGames)
+                    .forEach(runGame -> runGames.put(runGame.getId().getPlatformIdentifier(), runGame));
+
+            List<String> undiscountedIdentifiers = missingIdentifiers.stream()
+                    .filter(identifier -> !fetchedGames.containsKey(identifier))
+                    .toList();
+
+            if (!undiscountedIdentifiers.isEmpty()) {
+                gameNotificationRepository.deleteAllByPlatformIdentifiers(platform, undiscountedIdentifiers);
+            }
+        }
+
+        Map<String, GenericGame> discountedGames = new LinkedHashMap<>();
+
+        for (String identifier : identifiers) {
+            DiscountRunGame runGame = runGames.get(identifier);
+
+            if (runGame != null && runGame.isDiscounted()) {
+                discountedGames.put(identifier, toGenericGame(runGame));
+            }
+        }
+
+        return discountedGames;
+    }
+
+    @Override
+    public Set<String> getNotifiedEmails(String runKey, Collection<String> emails) {
+        List<String> recipients = List.copyOf(emails);
+        Set<String> notifiedEmails = new HashSet<>();
+
+        for (int start = 0; start < recipients.size(); start += NOTIFIED_EMAILS_BATCH_SIZE) {
+            List<String> batch = recipients.subList(start, Math.min(start + NOTIFIED_EMAILS_BATCH_SIZE, recipients.size()));
+
+            discountRunDeliveryRepository.findAllByIdRunKeyAndIdEmailIn(runKey, batch)
+                    .forEach(delivery -> notifiedEmails.add(delivery.getId().getEmail()));
+        }
+
+        return notifiedEmails;
+    }
+
+    @Override
+    public List<GameId> getGameIdsToNotify(String runKey, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return gamesRepository.findAllIdsToNotify(runKey, userIds);
+    }
+
+    @Override
+    @Transactional
+    public void markNotified(String runKey, String email, Map<GameId, GenericGame> games) {
+        gameNotificationRepository.saveAll(games.entrySet().stream()
+                .map(entry -> GameNotification.builder()
+                        .id(entry.getKey())
+                        .discountPercent(entry.getValue().getDiscountPercent())
+                        .build())
+                .toList());
+        discountRunDeliveryRepository.save(DiscountRunDelivery.builder()
+                .id(new DiscountRunDeliveryId(runKey, email))
+                .build());
+    }
+
+    @Override
+    public void deleteCreatedBefore(Instant createdAt) {
+        discountRunGameRepository.deleteAllCreatedBefore(Date.from(createdAt));
+        discountRunDeliveryRepository.deleteAllCreatedBefore(Date.from(createdAt));
+    }
+
+    private List<DiscountRunGame> saveRunGames(String runKey, GamePlatform platform, List<DiscountRunGame> runGames) {
+        try {
+            discountRunGameRepository.saveAll(runGames);
+            return runGames;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Another node checkpointed {} games of {} first, keeping its rows.", platform, runKey);
+        }
+
+        List<DiscountRunGame> savedRunGames = new ArrayList<>();
+        List<String> checkpointedIdentifiers = new ArrayList<>();
+
+        for (DiscountRunGame runGame : runGames) {
+            runGame.setPersisted(false);
+
+            try {
+                savedRunGames.add(discountRunGameRepository.saveAndFlush(runGame));
+            } catch (DataIntegrityViolationException e) {
+                checkpointedIdentifiers.add(runGame.getId().getPlatformIdentifier());
+            }
+        }
+
+        if (!checkpointedIdentifiers.isEmpty()) {
+            savedRunGames.addAll(discountRunGameRepository
+                    .findAllByIdRunKeyAndIdPlatformAndIdPlatformIdentifierIn(runKey, platform, checkpointedIdentifiers));
+        }
+
+        return savedRunGames;
+    }
+
+    private DiscountRunGame toRunGame(String runKey, GamePlatform platform, String identifier, GenericGame game) {
+        DiscountRunGame.DiscountRunGameBuilder runGame = DiscountRunGame.builder()
+                .id(new DiscountRunGameId(runKey, identifier, platform))
+                .discounted(game != null);
+
+        if (game != null) {
+            runGame.gameIdentifier(game.getIdentifier())
+                    .title(game.getTitle())
+                    .url(game.getUrl())
+                    .image(game.getImage())
+                    .initialPrice(game.getInitialPrice())
+                    .discountPrice(game.getDiscountPrice())
+                    .discountPercent(game.getDiscountPercent());
+        }
+
+        return runGame.build();
+    }
+
+    private GenericGame toGenericGame(DiscountRunGame runGame) {
+        return new GenericGame(
+                runGame.getGameIdentifier(),
+                runGame.getTitle(),
+                runGame.getUrl(),
+                runGame.getImage(),
+                runGame.getId().getPlatform(),
+                runGame.getInitialPrice(),
+                runGame.getDiscountPrice(),
+                runGame.getDiscountPercent(),
+                false
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.igorsouza.games.services.scheduling;
+
+import com.igorsouza.games.models.SchedulerLease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public interface SchedulerLeaseService {
+    boolean tryAcquire(String runKey, int shard, Duration leaseDuration);
+    boolean renew(String runKey, int shard, Duration leaseDuration);
+    void complete(String runKey, int shard);
+    void release(String runKey, int shard);
+    List<SchedulerLease> getExpiredLeases();
+    int deleteExpiredBefore(Instant expiresAt);
+}
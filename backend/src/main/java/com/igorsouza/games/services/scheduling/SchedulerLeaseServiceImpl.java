@@ -0,0 +1,103 @@
+package com.igorsouza.games.services.scheduling;
+
+import com.igorsouza.games.enums.SchedulerLeaseStatus;
+import com.igorsouza.games.models.SchedulerLease;
+import com.igorsouza.games.repositories.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseServiceImpl implements SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Override
+    public boolean tryAcquire(String runKey, int shard, Duration leaseDuration) {
+        Instant now = Instant.now();
+
+        try {
+            SchedulerLease lease = schedulerLeaseRepository.findById(getLeaseId(runKey, shard)).orElse(null);
+
+            if (lease == null) {
+                schedulerLeaseRepository.saveAndFlush(SchedulerLease.builder()
+                        .id(getLeaseId(runKey, shard))
+                        .runKey(runKey)
+                        .shard(shard)
+                        .owner(owner)
+                        .status(SchedulerLeaseStatus.RUNNING)
+                        .expiresAt(now.plus(leaseDuration))
+                        .build());
+                return true;
+            }
+
+            if (lease.getStatus() == SchedulerLeaseStatus.COMPLETED || lease.getExpiresAt().isAfter(now)) {
+                return false;
+            }
+
+            log.info("Taking over expired lease for shard {} of {} from {}.", shard, runKey, lease.getOwner());
+            lease.setOwner(owner);
+            lease.setExpiresAt(now.plus(leaseDuration));
+            schedulerLeaseRepository.saveAndFlush(lease);
+            return true;
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean renew(String runKey, int shard, Duration leaseDuration) {
+        return updateOwnedLease(runKey, shard, lease -> lease.setExpiresAt(Instant.now().plus(leaseDuration)));
+    }
+
+    @Override
+    public void complete(String runKey, int shard) {
+        updateOwnedLease(runKey, shard, lease -> lease.setStatus(SchedulerLeaseStatus.COMPLETED));
+    }
+
+    @Override
+    public void release(String runKey, int shard) {
+        updateOwnedLease(runKey, shard, lease -> lease.setExpiresAt(Instant.now()));
+    }
+
+    @Override
+    public List<SchedulerLease> getExpiredLeases() {
+        return schedulerLeaseRepository.findAllByStatusAndExpiresAtBefore(SchedulerLeaseStatus.RUNNING, Instant.now());
+    }
+
+    @Override
+    public int deleteExpiredBefore(Instant expiresAt) {
+        return schedulerLeaseRepository.deleteAllExpiredBefore(expiresAt);
+    }
+
+    private boolean updateOwnedLease(String runKey, int shard, Consumer<SchedulerLease> update) {
+        try {
+            SchedulerLease lease = schedulerLeaseRepository.findById(getLeaseId(runKey, shard)).orElse(null);
+
+            if (lease == null || !owner.equals(lease.getOwner()) || lease.getStatus() == SchedulerLeaseStatus.COMPLETED) {
+                return false;
+            }
+
+            update.accept(lease);
+            schedulerLeaseRepository.saveAndFlush(lease);
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    private String getLeaseId(String runKey, int shard) {
+        return runKey + ":" + shard;
+    }
+}
@@ -0,0 +1,17 @@
+package com.igorsouza.games.services.search;
+
+import com.igorsouza.games.enums.GamePlatform;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PendingSearch {
+    private final UUID userId;
+    private final String gameName;
+    private final GamePlatform platform;
+    private final Date searchedAt;
+}
@@ -0,0 +1,158 @@
+package com.igorsouza.games.services.search;
+
+import com.igorsouza.games.config.app.SearchHistoryConfig;
+import com.igorsouza.games.models.UserGameSearch;
+import com.igorsouza.games.repositories.UserGameSearchRepository;
+import com.igorsouza.games.repositories.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class SearchHistoryWriter {
+
+    private final UserGameSearchRepository userGameSearchRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchHistoryConfig searchHistoryConfig;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingSearch> pendingSearches;
+    private final Timer flushTimer;
+
+    private volatile boolean running = true;
+    private volatile List<PendingSearch> flushingSearches = List.of();
+    private Thread writerThread;
+
+    public SearchHistoryWriter(UserGameSearchRepository userGameSearchRepository, UserRepository userRepository,
+                               TransactionTemplate transactionTemplate, SearchHistoryConfig searchHistoryConfig,
+                               MeterRegistry meterRegistry) {
+        this.userGameSearchRepository = userGameSearchRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.searchHistoryConfig = searchHistoryConfig;
+        this.meterRegistry = meterRegistry;
+        this.pendingSearches = new ArrayBlockingQueue<>(searchHistoryConfig.getQueueCapacity());
+        this.flushTimer = meterRegistry.timer("search.history.flush");
+
+        Gauge.builder("search.history.queue.size", pendingSearches, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = Thread.ofPlatform().name("search-history-writer").daemon().start(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(searchHistoryConfig.getFlushInterval().toMillis());
+
+        List<PendingSearch> remainingSearches = new ArrayList<>();
+        pendingSearches.drainTo(remainingSearches);
+        flush(remainingSearches);
+    }
+
+    public void enqueue(PendingSearch search) {
+        try {
+            long timeout = searchHistoryConfig.getEnqueueTimeout().toMillis();
+
+            if (!pendingSearches.offer(search, timeout, TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("search.history.dropped").increment();
+                log.warn("Search history queue is full, dropping search for user {}.", search.getUserId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public List<PendingSearch> getPendingSearches(UUID userId) {
+        return Stream.concat(flushingSearches.stream(), pendingSearches.stream())
+                .filter(search -> search.getUserId().equals(userId))
+                .toList();
+    }
+
+    private void writeLoop() {
+        long flushIntervalNanos = searchHistoryConfig.getFlushInterval().toNanos();
+        int batchSize = searchHistoryConfig.getBatchSize();
+
+        while (running) {
+            List<PendingSearch> batch = new ArrayList<>(batchSize);
+
+            try {
+                PendingSearch firstSearch = pendingSearches.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (firstSearch == null) continue;
+
+                batch.add(firstSearch);
+                long flushDeadline = System.nanoTime() + flushIntervalNanos;
+
+                while (batch.size() < batchSize) {
+                    pendingSearches.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = flushDeadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) break;
+
+                    PendingSearch nextSearch = pendingSearches.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (nextSearch == null) break;
+                    batch.add(nextSearch);
+                }
+            } catch (InterruptedException e) {
+                flush(batch);
+                break;
+            }
+
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingSearch> batch) {
+        if (batch.isEmpty()) return;
+
+        flushingSearches = batch;
+        flushTimer.record(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        userGameSearchRepository.saveAll(batch.stream().map(this::toUserGameSearch).toList()));
+                meterRegistry.counter("search.history.saved").increment(batch.size());
+            } catch (RuntimeException e) {
+                log.warn("Could not save {} searches in one batch, saving them one by one: {}", batch.size(),
+                        e.getMessage());
+                batch.forEach(this::saveSingle);
+            }
+        });
+        flushingSearches = List.of();
+    }
+
+    private void saveSingle(PendingSearch search) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userGameSearchRepository.save(toUserGameSearch(search)));
+            meterRegistry.counter("search.history.saved").increment();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("search.history.dropped").increment();
+            log.error("Could not save search for user {}: {}", search.getUserId(), e.getMessage());
+        }
+    }
+
+    private UserGameSearch toUserGameSearch(PendingSearch search) {
+        return UserGameSearch.builder()
+                .gameName(search.getGameName())
+                .platform(search.getPlatform())
+                .user(userRepository.getReferenceById(search.getUserId()))
+                .createdAt(search.getSearchedAt())
+                .build();
+    }
+}
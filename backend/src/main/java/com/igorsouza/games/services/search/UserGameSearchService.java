@@ -1,13 +1,12 @@
 package com.igorsouza.games.services.search;
 
-import com.igorsouza.games.enums.GamePlatform;
-import com.igorsouza.games.models.User;
+import com.igorsouza.games.enums.SearchScope;
 import com.igorsouza.games.models.UserGameSearch;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface UserGameSearchService {
-    void saveSearch(String gameName, GamePlatform platform, User user);
+    void saveSearch(String gameName, SearchScope scope, UUID userId);
     List<UserGameSearch> getUserSearches(UUID userId);
 }
@@ -1,12 +1,14 @@
 package com.igorsouza.games.services.search;
 
 import com.igorsouza.games.enums.GamePlatform;
-import com.igorsouza.games.models.User;
+import com.igorsouza.games.enums.SearchScope;
 import com.igorsouza.games.models.UserGameSearch;
 import com.igorsouza.games.repositories.UserGameSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,20 +17,29 @@ import java.util.UUID;
 public class UserGameSearchServiceImpl implements UserGameSearchService {
 
     private final UserGameSearchRepository userGameSearchRepository;
+    private final SearchHistoryWriter searchHistoryWriter;
 
     @Override
     public List<UserGameSearch> getUserSearches(UUID userId) {
-        return userGameSearchRepository.findByUserId(userId);
+        List<UserGameSearch> searches = new ArrayList<>(userGameSearchRepository.findByUserId(userId));
+
+        for (PendingSearch pendingSearch : searchHistoryWriter.getPendingSearches(userId)) {
+            searches.add(UserGameSearch.builder()
+                    .gameName(pendingSearch.getGameName())
+                    .platform(pendingSearch.getPlatform())
+                    .createdAt(pendingSearch.getSearchedAt())
+                    .build());
+        }
+
+        return searches;
     }
 
     @Override
-    public void saveSearch(String gameName, GamePlatform platform, User user) {
-        UserGameSearch search = UserGameSearch.builder()
-                .gameName(gameName)
-                .platform(platform)
-                .user(user)
-                .build();
-
-        userGameSearchRepository.save(search);
+    public void saveSearch(String gameName, SearchScope scope, UUID userId) {
+        Date searchedAt = new Date();
+
+        for (GamePlatform platform : scope.getPlatforms()) {
+            searchHistoryWriter.enqueue(new PendingSearch(userId, gameName, platform, searchedAt));
+        }
     }
 }
@@ -3,10 +3,11 @@ package com.igorsouza.games.services.users;
 import com.igorsouza.games.dtos.auth.NewUser;
 import com.igorsouza.games.dtos.searches.UserGameSearch;
 import com.igorsouza.games.dtos.users.ChangePassword;
+import com.igorsouza.games.dtos.users.NotificationSubscriber;
 import com.igorsouza.games.dtos.users.SetUserRoles;
 import com.igorsouza.games.dtos.users.UpdateUser;
 import com.igorsouza.games.dtos.users.UserData;
-import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.SearchScope;
 import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
@@ -18,7 +19,7 @@ import java.util.UUID;
 
 public interface UserService {
     List<UserData> getAllUsers();
-    List<User> getUsersWithVerifiedEmailAndEnabledNotifications();
+    List<NotificationSubscriber> getNotificationSubscribers(UUID afterId, UUID lastId, int limit);
     User getUserByEmail(String email) throws NotFoundException;
     User getUserById(UUID id) throws NotFoundException;
     User getAuthenticatedUser() throws UnauthorizedException;
@@ -31,5 +32,5 @@ public interface UserService {
     void changeUserPassword(ChangePassword passwords) throws BadRequestException, UnauthorizedException;
     void deleteAuthenticatedUser() throws UnauthorizedException;
     void createSuperAdmin(NewUser superAdmin);
-    void saveUserGameSearch(String gameName, GamePlatform platform) throws UnauthorizedException;
+    void saveUserGameSearch(String gameName, SearchScope scope) throws UnauthorizedException;
 }
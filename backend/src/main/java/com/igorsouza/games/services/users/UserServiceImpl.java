@@ -3,10 +3,11 @@ package com.igorsouza.games.services.users;
 import com.igorsouza.games.dtos.auth.NewUser;
 import com.igorsouza.games.dtos.searches.UserGameSearch;
 import com.igorsouza.games.dtos.users.ChangePassword;
+import com.igorsouza.games.dtos.users.NotificationSubscriber;
 import com.igorsouza.games.dtos.users.SetUserRoles;
 import com.igorsouza.games.dtos.users.UpdateUser;
 import com.igorsouza.games.dtos.users.UserData;
-import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.SearchScope;
 import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
@@ -18,6 +19,7 @@ import com.igorsouza.games.services.roles.RoleService;
 import com.igorsouza.games.services.search.UserGameSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -54,8 +56,8 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Override
-    public List<User> getUsersWithVerifiedEmailAndEnabledNotifications() {
-        return userRepository.findAllByEmailVerifiedTrueAndNotificationsEnabledTrue();
+    public List<NotificationSubscriber> getNotificationSubscribers(UUID afterId, UUID lastId, int limit) {
+        return userRepository.findNotificationSubscribers(afterId, lastId, Limit.of(limit));
     }
 
     @Override
@@ -223,8 +225,8 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         }
     }
 
-    public void saveUserGameSearch(String gameName, GamePlatform platform) throws UnauthorizedException {
-        userGameSearchService.saveSearch(gameName, platform, getAuthenticatedUser());
+    public void saveUserGameSearch(String gameName, SearchScope scope) throws UnauthorizedException {
+        userGameSearchService.saveSearch(gameName, scope, getAuthenticatedUserId());
     }
 
     public UUID getAuthenticatedUserId() {
@@ -3,6 +3,7 @@ package com.igorsouza.games.services.wishlist;
 import com.igorsouza.games.dtos.games.GenericGame;
 import com.igorsouza.games.dtos.games.WishlistGame;
 import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.exceptions.UnauthorizedException;
@@ -14,7 +15,9 @@ import com.igorsouza.games.services.users.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -28,28 +31,51 @@ public class WishlistServiceImpl implements WishlistService {
         User authenticatedUser = userService.getAuthenticatedUser();
         List<Game> userGames = gameService.getGamesByUser(authenticatedUser);
 
+        List<String> steamGamesIds = userGames.stream()
+                .filter(game -> game.getPlatform().equals(GamePlatform.STEAM))
+                .map(Game::getPlatformIdentifier)
+                .toList();
+
+        List<String> epicGamesIds = userGames.stream()
+                .filter(game -> game.getPlatform().equals(GamePlatform.EPIC))
+                .map(Game::getPlatformIdentifier)
+                .toList();
+
+        Iterator<GenericGame> steamGames = gameService.getSteamGamesByIds(steamGamesIds).iterator();
+        Iterator<GenericGame> epicGames = gameService.getEpicStoreGamesByIds(epicGamesIds).iterator();
+
         return userGames.stream().map(game -> {
             if (game.getPlatform().equals(GamePlatform.STEAM)) {
-                return gameService.getSteamGameById(game.getPlatformIdentifier());
+                return steamGames.next();
             }
 
-            return gameService.getEpicStoreGameById(game.getPlatformIdentifier());
-        }).toList();
+            return epicGames.next();
+        }).filter(Objects::nonNull).toList();
     }
 
     @Override
-    public void addGame(WishlistGame wishlistGame) throws ConflictException, UnauthorizedException {
+    public void addGame(WishlistGame wishlistGame)
+            throws BadRequestException, ConflictException, UnauthorizedException {
         Game game = parseWishlistGameToGame(wishlistGame);
         gameService.saveGame(game);
     }
 
     @Override
-    public void removeGame(WishlistGame wishlistGame) throws NotFoundException, UnauthorizedException {
+    public void removeGame(WishlistGame wishlistGame)
+            throws BadRequestException, NotFoundException, UnauthorizedException {
         Game game = parseWishlistGameToGame(wishlistGame);
         gameService.removeGame(game);
     }
 
-    private Game parseWishlistGameToGame(WishlistGame wishlistGame) throws UnauthorizedException {
+    private Game parseWishlistGameToGame(WishlistGame wishlistGame) throws BadRequestException, UnauthorizedException {
+        if (wishlistGame.getPlatform() == null) {
+            throw new BadRequestException("Platform must be STEAM or EPIC.");
+        }
+
+        if (wishlistGame.getPlatformIdentifier() == null || wishlistGame.getPlatformIdentifier().isBlank()) {
+            throw new BadRequestException("Platform identifier is required.");
+        }
+
         User authenticatedUser = userService.getAuthenticatedUser();
         GameId gameId = new GameId(
                 authenticatedUser.getId(),
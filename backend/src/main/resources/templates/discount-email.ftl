@@ -50,21 +50,8 @@
             </tr>
             </thead>
             <tbody>
-            <#list games as game>
-                <tr>
-                    <td><img src="${game.image}" alt="${game.title}" class="game-image"/></td>
-                    <td><a href="${game.url}" target="_blank">${game.title}</a></td>
-                    <td>R$ ${game.initialPrice?string["0.00"]}</td>
-                    <td class="discount">R$ ${game.discountPrice?string["0.00"]}</td>
-                    <td>${game.discountPercent}%</td>
-                    <td>
-                        <#if game.platform == "STEAM">
-                            Steam
-                        <#else>
-                            Epic Games Store
-                        </#if>
-                    </td>
-                </tr>
+            <#list rows as row>
+                ${row}
             </#list>
             </tbody>
         </table>
@@ -5,6 +5,8 @@ import com.igorsouza.games.config.security.SecurityConfig;
 import com.igorsouza.games.controllers.GamesController;
 import com.igorsouza.games.dtos.games.*;
 import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.GameReviewJobStatus;
+import com.igorsouza.games.exceptions.BadRequestException;
 import com.igorsouza.games.exceptions.ConflictException;
 import com.igorsouza.games.exceptions.NotFoundException;
 import com.igorsouza.games.models.Role;
@@ -22,11 +24,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -85,7 +90,7 @@ public class GamesControllerTest {
     @WithMockUser
     @DisplayName("GET /games/steam - sucesso")
     void shouldGetSteamGamesSuccessfully() throws Exception {
-        when(gameService.getSteamGames("Doom")).thenReturn(List.of());
+        when(gameService.getSteamGames("Doom", null)).thenReturn(new GamesPage(List.of(), null));
 
         mockMvc.perform(get("/games/steam")
                         .with(csrf())
@@ -93,7 +98,62 @@ public class GamesControllerTest {
                         .param("gameName", "Doom"))
                 .andExpect(status().isOk());
 
-        verify(gameService, times(1)).getSteamGames("Doom");
+        verify(gameService, times(1)).getSteamGames("Doom", null);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /games/steam - retorna cursor da próxima página")
+    void shouldReturnNextCursorHeaderWhenMoreSteamGamesExist() throws Exception {
+        when(gameService.getSteamGames("Doom", "cursor-1")).thenReturn(new GamesPage(List.of(), "cursor-2"));
+
+        mockMvc.perform(get("/games/steam")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("gameName", "Doom")
+                        .param("cursor", "cursor-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "cursor-2"));
+
+        verify(gameService, times(1)).getSteamGames("Doom", "cursor-1");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /games/steam - 400 com cursor inválido")
+    void shouldReturnBadRequestOnInvalidSteamCursor() throws Exception {
+        when(gameService.getSteamGames("Doom", "invalid"))
+                .thenThrow(new BadRequestException("Invalid cursor."));
+
+        mockMvc.perform(get("/games/steam")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("gameName", "Doom")
+                        .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /games/search - transmite resultados por loja")
+    void shouldStreamSearchResultsFromBothStores() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        when(gameService.searchGames("Doom")).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/games/search")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("gameName", "Doom"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event().name("steam").data(new GamesPage(List.of(), null), APPLICATION_JSON));
+        emitter.send(SseEmitter.event().name("epic-error").data("Search did not finish before the deadline."));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:steam")))
+                .andExpect(content().string(containsString("event:epic-error")));
+
+        verify(gameService, times(1)).searchGames("Doom");
     }
 
     @Test
@@ -102,7 +162,7 @@ public class GamesControllerTest {
         mockMvc.perform(get("/games/steam").param("gameName", "Doom"))
                 .andExpect(status().isUnauthorized());
 
-        verify(gameService, never()).getSteamGames(any(String.class));
+        verify(gameService, never()).getSteamGames(any(String.class), any());
     }
 
     @Test
@@ -118,12 +178,13 @@ public class GamesControllerTest {
                         GamePlatform.EPIC,
                         0.0,
                         0.0,
-                        0
+                        0,
+                        false
                 )
         );
 
         String gamesJson = objectMapper.writeValueAsString(games);
-        when(gameService.getEpicStoreGames("Fortnite")).thenReturn(games);
+        when(gameService.getEpicStoreGames("Fortnite", null)).thenReturn(new GamesPage(games, null));
 
         mockMvc.perform(get("/games/epic")
                         .header("Authorization", "Bearer " + testToken)
@@ -131,7 +192,7 @@ public class GamesControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(gamesJson));
 
-        verify(gameService, times(1)).getEpicStoreGames("Fortnite");
+        verify(gameService, times(1)).getEpicStoreGames("Fortnite", null);
     }
 
     @Test
@@ -140,7 +201,7 @@ public class GamesControllerTest {
         mockMvc.perform(get("/games/epic").param("gameName", "Fortnite"))
                 .andExpect(status().isUnauthorized());
 
-        verify(gameService, never()).getEpicStoreGames(any(String.class));
+        verify(gameService, never()).getEpicStoreGames(any(String.class), any());
     }
 
     @Test
@@ -187,6 +248,85 @@ public class GamesControllerTest {
         verify(gameService, times(1)).getGameReview("Doom");
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("POST /games/generate-review - 202 com job de geração")
+    void shouldAcceptGameReviewGeneration() throws Exception {
+        ReviewJob reviewJob = new ReviewJob(UUID.randomUUID(), "doom", GameReviewJobStatus.PENDING, null, null);
+        String reviewJobJson = objectMapper.writeValueAsString(reviewJob);
+
+        when(gameService.generateGameReview("Doom")).thenReturn(reviewJob);
+
+        mockMvc.perform(post("/games/generate-review")
+                        .with(csrf())
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("gameName", "Doom"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/games/review-jobs/" + reviewJob.getId()))
+                .andExpect(content().json(reviewJobJson));
+
+        verify(gameService, times(1)).generateGameReview("Doom");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("POST /games/generate-review - conflito")
+    void shouldReturn409WhenGeneratingExistingGameReview() throws Exception {
+        when(gameService.generateGameReview("Doom"))
+                .thenThrow(new ConflictException("Review for this game already exists."));
+
+        mockMvc.perform(post("/games/generate-review")
+                        .with(csrf())
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("gameName", "Doom"))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Review for this game already exists."));
+
+        verify(gameService, times(1)).generateGameReview("Doom");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /games/review-jobs/{id} - retorna review gerada")
+    void shouldGetCompletedGameReviewJob() throws Exception {
+        Review review = new Review(UUID.randomUUID(), "Doom é excelente", true, new Date(), new Date());
+        ReviewJob reviewJob = new ReviewJob(UUID.randomUUID(), "doom", GameReviewJobStatus.COMPLETED, review, null);
+        String reviewJobJson = objectMapper.writeValueAsString(reviewJob);
+
+        when(gameService.getGameReviewJob(reviewJob.getId())).thenReturn(reviewJob);
+
+        mockMvc.perform(get("/games/review-jobs/" + reviewJob.getId())
+                        .header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(reviewJobJson));
+
+        verify(gameService, times(1)).getGameReviewJob(reviewJob.getId());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /games/review-jobs/{id} - 404 não encontrado")
+    void shouldReturnNotFoundWhenGameReviewJobDoesNotExist() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(gameService.getGameReviewJob(jobId)).thenThrow(new NotFoundException("Review job not found."));
+
+        mockMvc.perform(get("/games/review-jobs/" + jobId)
+                        .header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Review job not found."));
+
+        verify(gameService, times(1)).getGameReviewJob(jobId);
+    }
+
+    @Test
+    @DisplayName("GET /games/review-jobs/{id} - 401 sem autenticação")
+    void shouldReturnUnauthorizedOnReviewJobWithoutAuth() throws Exception {
+        mockMvc.perform(get("/games/review-jobs/" + UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+
+        verify(gameService, never()).getGameReviewJob(any(UUID.class));
+    }
+
     @Test
     @WithMockUser(authorities = "ADMIN")
     @DisplayName("POST /games/review - sucesso")
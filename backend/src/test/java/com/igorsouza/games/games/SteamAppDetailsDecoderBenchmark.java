@@ -0,0 +1,78 @@
+package com.igorsouza.games.games;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
+import com.igorsouza.games.services.integrations.steam.SteamAppDetailsDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Opt-in: mvn test -Dtest=SteamAppDetailsDecoderBenchmark
+public class SteamAppDetailsDecoderBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final SteamAppDetailsDecoder decoder = new SteamAppDetailsDecoder(objectMapper);
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Decodificador em streaming aloca menos que Map + convertValue")
+    void shouldAllocateLessThanMapTreeDecoding() throws IOException {
+        byte[] body = getClass().getResourceAsStream("/steam/appdetails-730.json").readAllBytes();
+
+        SteamGameDetails fromMap = decodeThroughMap(body);
+        SteamGameDetails fromStream = decoder.decodeGameDetails(new ByteArrayInputStream(body), 730);
+        assertThat(fromStream.getName()).isEqualTo(fromMap.getName());
+        assertThat(fromStream.getHeaderImage()).isEqualTo(fromMap.getHeaderImage());
+        assertThat(fromStream.isFree()).isEqualTo(fromMap.isFree());
+        assertThat(fromStream.getPriceOverview().getFinalPrice()).isEqualTo(fromMap.getPriceOverview().getFinalPrice());
+        assertThat(fromStream.getPriceOverview().getDiscountPercent())
+                .isEqualTo(fromMap.getPriceOverview().getDiscountPercent());
+
+        long mapBytesPerCall = measureAllocationPerCall(() -> decodeThroughMap(body));
+        long streamBytesPerCall = measureAllocationPerCall(() -> decoder.decodeGameDetails(new ByteArrayInputStream(body), 730));
+
+        System.out.printf("appdetails payload: %d bytes%n", body.length);
+        System.out.printf("Map + convertValue: %d bytes allocated per call%n", mapBytesPerCall);
+        System.out.printf("Streaming decoder:  %d bytes allocated per call%n", streamBytesPerCall);
+
+        assertThat(streamBytesPerCall).isLessThan(mapBytesPerCall);
+    }
+
+    private SteamGameDetails decodeThroughMap(byte[] body) throws IOException {
+        Map<String, Object> gameDetailsResponse = objectMapper.readValue(body, Map.class);
+        Map<String, Object> gameDetailsWrapper = (Map<String, Object>) gameDetailsResponse.get("730");
+        return objectMapper.convertValue(gameDetailsWrapper.get("data"), SteamGameDetails.class);
+    }
+
+    private long measureAllocationPerCall(Decode decode) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decode.run();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            decode.run();
+        }
+
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Decode {
+        SteamGameDetails run() throws IOException;
+    }
+}
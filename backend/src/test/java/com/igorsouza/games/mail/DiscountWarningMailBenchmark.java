@@ -0,0 +1,209 @@
+package com.igorsouza.games.mail;
+
+import com.igorsouza.games.dtos.games.steam.SteamGameDetails;
+import com.igorsouza.games.dtos.games.steam.SteamGamePriceOverview;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.enums.MailOutboxStatus;
+import com.igorsouza.games.models.Game;
+import com.igorsouza.games.models.GameId;
+import com.igorsouza.games.models.MailOutboxMessage;
+import com.igorsouza.games.models.User;
+import com.igorsouza.games.repositories.GamesRepository;
+import com.igorsouza.games.repositories.MailOutboxRepository;
+import com.igorsouza.games.repositories.SchedulerLeaseRepository;
+import com.igorsouza.games.repositories.UserRepository;
+import com.igorsouza.games.schedulers.GameDiscountWarningScheduler;
+import com.igorsouza.games.services.integrations.steam.SteamService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+// Opt-in: mvn test -Dtest=DiscountWarningMailBenchmark [-Dbenchmark.users=1000 -Dbenchmark.games=10]
+@SpringBootTest(properties = {
+        "FRONTEND_URL=http://localhost:5173",
+        "spring.mail.host=127.0.0.1",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "app.mail-outbox.poll-interval=50ms",
+        "app.discount-warning.lease-sweep-interval=1h"
+})
+@ActiveProfiles("test")
+public class DiscountWarningMailBenchmark {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 1_000);
+    private static final int GAMES_PER_USER = Integer.getInteger("benchmark.games", 10);
+    private static final int CATALOG_SIZE = Integer.getInteger("benchmark.catalog", 500);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+    private static LocalSmtpServer smtpServer;
+
+    @Autowired
+    private GameDiscountWarningScheduler gameDiscountWarningScheduler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @MockitoBean
+    private SteamService steamService;
+
+    @DynamicPropertySource
+    static void smtpProperties(DynamicPropertyRegistry registry) throws IOException {
+        smtpServer = new LocalSmtpServer();
+        registry.add("spring.mail.port", smtpServer::getPort);
+    }
+
+    @AfterAll
+    static void stopSmtpServer() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    @DisplayName("Mede vazão e latência do envio de avisos de desconto")
+    void shouldDeliverDiscountWarningToEverySubscriber() throws InterruptedException {
+        stubSteamStore();
+        seedSubscribers();
+        schedulerLeaseRepository.deleteAll();
+        smtpServer.reset();
+
+        HeapAllocationMeter allocationMeter = new HeapAllocationMeter();
+        long startedAt = System.nanoTime();
+        gameDiscountWarningScheduler.sendGameDiscountWarningMail();
+        long scheduledAt = System.nanoTime();
+
+        long deadline = scheduledAt + DRAIN_TIMEOUT.toNanos();
+        while ((smtpServer.getReceivedMessages() < USERS
+                || mailOutboxRepository.countByStatus(MailOutboxStatus.SENT) < USERS)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        long drainedAt = System.nanoTime();
+        long allocatedBytes = allocationMeter.getAllocatedBytes();
+        allocationMeter.close();
+        double elapsedSeconds = (drainedAt - startedAt) / 1_000_000_000.0;
+        int delivered = smtpServer.getReceivedMessages();
+        List<Long> deliveryMillis = getEnqueueToDeliveryMillis();
+        List<Long> transactionMicros = smtpServer.getTransactionNanos().stream()
+                .map(nanos -> nanos / 1_000)
+                .sorted()
+                .toList();
+
+        System.out.printf("Seeded %d subscribers x %d wishlisted games (%d distinct Steam apps)%n",
+                USERS, GAMES_PER_USER, Math.min(CATALOG_SIZE, USERS * GAMES_PER_USER));
+        System.out.printf("Scheduler run: %d ms, outbox drained after %d ms%n",
+                (scheduledAt - startedAt) / 1_000_000, (drainedAt - startedAt) / 1_000_000);
+        System.out.printf("Delivered %d messages over %d SMTP connections: %.1f messages/sec%n",
+                delivered, smtpServer.getConnections(), delivered / elapsedSeconds);
+        System.out.printf("Enqueue-to-delivery latency: p50 %d ms, p99 %d ms%n",
+                percentile(deliveryMillis, 0.50), percentile(deliveryMillis, 0.99));
+        System.out.printf("SMTP transaction latency:    p50 %d us, p99 %d us%n",
+                percentile(transactionMicros, 0.50), percentile(transactionMicros, 0.99));
+        System.out.printf("Heap allocated %.1f MB (%.1f MB/s, %d bytes per message), process-wide including "
+                        + "virtual threads and background workers, from heap growth plus GC-reclaimed bytes%n",
+                allocatedBytes / 1_048_576.0, allocatedBytes / 1_048_576.0 / elapsedSeconds,
+                delivered == 0 ? 0 : allocatedBytes / delivered);
+
+        assertThat(delivered).isEqualTo(USERS);
+        assertThat(mailOutboxRepository.countByStatus(MailOutboxStatus.SENT)).isEqualTo(USERS);
+    }
+
+    private void stubSteamStore() {
+        when(steamService.getGamePrices(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> gamesIds = invocation.getArgument(0);
+            return gamesIds.stream().collect(Collectors.toMap(gameId -> gameId, this::getDiscountedPrice));
+        });
+        when(steamService.getGameDetails(any())).thenAnswer(invocation -> {
+            Integer gameId = invocation.getArgument(0);
+            SteamGameDetails gameDetails = new SteamGameDetails();
+            gameDetails.setIdentifier(String.valueOf(gameId));
+            gameDetails.setName("Benchmark Game " + gameId);
+            gameDetails.setUrl("https://store.steampowered.com/app/" + gameId);
+            gameDetails.setHeaderImage("https://cdn.akamai.steamstatic.com/steam/apps/" + gameId + "/header.jpg");
+            gameDetails.setPriceOverview(getDiscountedPrice(gameId));
+            return gameDetails;
+        });
+    }
+
+    private SteamGamePriceOverview getDiscountedPrice(Integer gameId) {
+        SteamGamePriceOverview price = new SteamGamePriceOverview();
+        int discountPercent = 10 + gameId % 81;
+        price.setInitialPrice(9_990);
+        price.setFinalPrice(9_990 * (100 - discountPercent) / 100);
+        price.setDiscountPercent(discountPercent);
+        return price;
+    }
+
+    private void seedSubscribers() {
+        List<User> users = new ArrayList<>();
+
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("subscriber " + i)
+                    .email("subscriber" + i + "@example.com")
+                    .password("123456")
+                    .emailVerified(true)
+                    .notificationsEnabled(true)
+                    .build());
+        }
+
+        List<Game> games = new ArrayList<>();
+        List<User> savedUsers = userRepository.saveAll(users);
+
+        for (int i = 0; i < savedUsers.size(); i++) {
+            User user = savedUsers.get(i);
+
+            for (int j = 0; j < GAMES_PER_USER; j++) {
+                String appId = String.valueOf(10 + (i * GAMES_PER_USER + j) % CATALOG_SIZE);
+                games.add(new Game(new GameId(user.getId(), appId, GamePlatform.STEAM), user));
+            }
+        }
+
+        gamesRepository.saveAll(games);
+    }
+
+    private List<Long> getEnqueueToDeliveryMillis() {
+        return mailOutboxRepository.findAll().stream()
+                .filter(message -> message.getSentAt() != null)
+                .map(this::getEnqueueToDeliveryMillis)
+                .sorted()
+                .toList();
+    }
+
+    private long getEnqueueToDeliveryMillis(MailOutboxMessage message) {
+        return message.getSentAt().toEpochMilli() - message.getCreatedAt().getTime();
+    }
+
+    private long percentile(List<Long> sortedValues, double percentile) {
+        if (sortedValues.isEmpty()) return 0;
+
+        int index = (int) Math.ceil(percentile * sortedValues.size()) - 1;
+        return sortedValues.get(Math.max(0, index));
+    }
+}
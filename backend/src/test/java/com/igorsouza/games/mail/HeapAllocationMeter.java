@@ -0,0 +1,77 @@
+package com.igorsouza.games.mail;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Process-wide heap allocation: heap growth plus whatever the collector reclaimed in between. Unlike
+// ThreadMXBean, this also counts virtual threads and threads that terminated during the measurement.
+public class HeapAllocationMeter implements NotificationListener, AutoCloseable {
+
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+    private final long usedBefore;
+
+    public HeapAllocationMeter() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+        }
+
+        usedBefore = getHeapUsed();
+    }
+
+    public long getAllocatedBytes() {
+        return getHeapUsed() - usedBefore + reclaimedBytes.get();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long usedBeforeGc = getHeapUsed(info.getGcInfo().getMemoryUsageBeforeGc());
+        long usedAfterGc = getHeapUsed(info.getGcInfo().getMemoryUsageAfterGc());
+        reclaimedBytes.addAndGet(Math.max(0, usedBeforeGc - usedAfterGc));
+    }
+
+    @Override
+    public void close() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            try {
+                ((NotificationEmitter) collector).removeNotificationListener(this);
+            } catch (ListenerNotFoundException ignored) {
+                // Already removed.
+            }
+        }
+    }
+
+    private long getHeapUsed(Map<String, MemoryUsage> memoryUsageByPool) {
+        return memoryUsageByPool.entrySet().stream()
+                .filter(entry -> heapPools.contains(entry.getKey()))
+                .mapToLong(entry -> entry.getValue().getUsed())
+                .sum();
+    }
+
+    private long getHeapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
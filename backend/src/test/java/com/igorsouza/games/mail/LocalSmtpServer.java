@@ -0,0 +1,113 @@
+package com.igorsouza.games.mail;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Minimal in-process SMTP sink: accepts every message without auth or TLS and keeps only counters.
+public class LocalSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger receivedMessages = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<Long> transactionNanos = new CopyOnWriteArrayList<>();
+
+    public LocalSmtpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        connectionExecutor.submit(this::acceptLoop);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getReceivedMessages() {
+        return receivedMessages.get();
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public List<Long> getTransactionNanos() {
+        return List.copyOf(transactionNanos);
+    }
+
+    public void reset() {
+        receivedMessages.set(0);
+        connections.set(0);
+        transactionNanos.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                connectionExecutor.submit(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1))) {
+            reply(writer, "220 localhost ESMTP");
+            long transactionStart = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(writer, "250 localhost");
+                    case "MAIL" -> {
+                        transactionStart = System.nanoTime();
+                        reply(writer, "250 OK");
+                    }
+                    case "RCPT", "RSET", "NOOP" -> reply(writer, "250 OK");
+                    case "DATA" -> {
+                        reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = reader.readLine()) != null && !line.equals(".")) {
+                            // Discard the message body.
+                        }
+                        receivedMessages.incrementAndGet();
+                        transactionNanos.add(System.nanoTime() - transactionStart);
+                        reply(writer, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(writer, "221 Bye");
+                        return;
+                    }
+                    default -> reply(writer, "502 Command not implemented");
+                }
+            }
+        } catch (IOException ignored) {
+            // Client went away.
+        }
+    }
+
+    private void reply(Writer writer, String response) throws IOException {
+        writer.write(response + "\r\n");
+        writer.flush();
+    }
+}
@@ -0,0 +1,144 @@
+package com.igorsouza.games.mail;
+
+import com.igorsouza.games.enums.MailOutboxStatus;
+import com.igorsouza.games.models.MailOutboxMessage;
+import com.igorsouza.games.repositories.MailOutboxRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:mail-outbox-test",
+        "management.health.mail.enabled=false",
+        "app.mail-outbox.poll-interval=20ms",
+        "app.mail-outbox.max-attempts=2",
+        "app.mail-outbox.initial-backoff=1h",
+        "app.mail-outbox.max-backoff=1h",
+        "app.discount-warning.lease-sweep-interval=1h"
+})
+@ActiveProfiles("test")
+public class MailOutboxWorkerIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @MockitoBean
+    private JavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @AfterEach
+    void cleanup() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Reivindica e marca como enviada uma mensagem pendente")
+    void shouldClaimAndSendPendingMessage() throws InterruptedException {
+        MailOutboxMessage message = mailOutboxRepository.save(getMessage(0, Instant.now()));
+
+        MailOutboxMessage sentMessage = waitFor(message.getId(), m -> m.getStatus() == MailOutboxStatus.SENT);
+
+        assertThat(sentMessage.getSentAt()).isNotNull();
+        assertThat(sentMessage.getClaimToken()).isNull();
+        assertThat(sentMessage.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Reagenda a mensagem com backoff quando o envio falha")
+    void shouldScheduleRetryWhenDeliveryFails() throws InterruptedException {
+        doThrow(new MailSendException("SMTP unavailable")).when(mailSender).send(any(MimeMessage[].class));
+        MailOutboxMessage message = mailOutboxRepository.save(getMessage(0, Instant.now()));
+
+        MailOutboxMessage retriedMessage = waitFor(message.getId(), m -> m.getAttempts() == 1);
+
+        assertThat(retriedMessage.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(retriedMessage.getClaimToken()).isNull();
+        assertThat(retriedMessage.getLastError()).isEqualTo("SMTP unavailable");
+        assertThat(retriedMessage.getNextAttemptAt()).isAfter(Instant.now().plus(Duration.ofMinutes(20)));
+    }
+
+    @Test
+    @DisplayName("Marca a mensagem como falha ao esgotar as tentativas")
+    void shouldMarkMessageFailedAfterLastAttempt() throws InterruptedException {
+        doThrow(new MailSendException("SMTP unavailable")).when(mailSender).send(any(MimeMessage[].class));
+        MailOutboxMessage message = mailOutboxRepository.save(getMessage(1, Instant.now()));
+
+        MailOutboxMessage failedMessage = waitFor(message.getId(), m -> m.getStatus() == MailOutboxStatus.FAILED);
+
+        assertThat(failedMessage.getAttempts()).isEqualTo(2);
+        assertThat(failedMessage.getClaimToken()).isNull();
+        assertThat(failedMessage.getLastError()).isEqualTo("SMTP unavailable");
+    }
+
+    @Test
+    @DisplayName("Ignora a confirmação de envio de um worker cuja reivindicação expirou")
+    void shouldIgnoreOutcomeFromExpiredClaim() {
+        MailOutboxMessage message = mailOutboxRepository.save(getMessage(0, Instant.now().plus(Duration.ofHours(1))));
+        UUID expiredClaimToken = UUID.randomUUID();
+        UUID claimToken = UUID.randomUUID();
+
+        assertThat(mailOutboxRepository.claim(List.of(message.getId()), claimToken, Instant.now().plusSeconds(60)))
+                .isEqualTo(1);
+        assertThat(mailOutboxRepository.markSent(List.of(message.getId()), expiredClaimToken, Instant.now()))
+                .isZero();
+        assertThat(mailOutboxRepository.markAttemptFailed(message.getId(), expiredClaimToken,
+                MailOutboxStatus.FAILED, 1, "stale", Instant.now())).isZero();
+        assertThat(mailOutboxRepository.findById(message.getId()).orElseThrow().getStatus())
+                .isEqualTo(MailOutboxStatus.SENDING);
+
+        assertThat(mailOutboxRepository.markSent(List.of(message.getId()), claimToken, Instant.now())).isEqualTo(1);
+        assertThat(mailOutboxRepository.findById(message.getId()).orElseThrow().getStatus())
+                .isEqualTo(MailOutboxStatus.SENT);
+    }
+
+    private MailOutboxMessage getMessage(int attempts, Instant nextAttemptAt) {
+        return MailOutboxMessage.builder()
+                .recipient("subscriber@example.com")
+                .subject("Jogos em promoção")
+                .html("<p>Promoção</p>")
+                .status(MailOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private MailOutboxMessage waitFor(UUID messageId, Predicate<MailOutboxMessage> condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            MailOutboxMessage message = mailOutboxRepository.findById(messageId).orElseThrow();
+            if (condition.test(message)) return message;
+
+            Thread.sleep(20);
+        }
+
+        throw new AssertionError("Mail " + messageId + " did not reach the expected state in " + TIMEOUT + ".");
+    }
+}
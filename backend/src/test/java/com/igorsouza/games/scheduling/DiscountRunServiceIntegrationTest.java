@@ -0,0 +1,150 @@
+package com.igorsouza.games.scheduling;
+
+import com.igorsouza.games.dtos.games.GenericGame;
+import com.igorsouza.games.enums.GamePlatform;
+import com.igorsouza.games.models.*;
+import com.igorsouza.games.repositories.DiscountRunGameRepository;
+import com.igorsouza.games.repositories.GameNotificationRepository;
+import com.igorsouza.games.repositories.GamesRepository;
+import com.igorsouza.games.repositories.UserRepository;
+import com.igorsouza.games.services.scheduling.DiscountRunService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class DiscountRunServiceIntegrationTest {
+
+    private static final String RUN_KEY = "discount-warning:test";
+
+    @Autowired
+    private DiscountRunService discountRunService;
+
+    @Autowired
+    private DiscountRunGameRepository discountRunGameRepository;
+
+    @Autowired
+    private GameNotificationRepository gameNotificationRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        gameNotificationRepository.deleteAll();
+        gamesRepository.deleteAll();
+        userRepository.deleteAll();
+        discountRunGameRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Retoma a partir do checkpoint sem consultar a loja pelos jogos já precificados")
+    void shouldResumeFromCheckpointWithoutRefetchingPricedGames() {
+        discountRunGameRepository.saveAndFlush(getRunGame("10", 40));
+        List<Collection<String>> fetchedIdentifiers = new ArrayList<>();
+
+        Map<String, GenericGame> discountedGames = discountRunService.getDiscountedGames(
+                RUN_KEY, GamePlatform.STEAM, List.of("10", "20", "30"), identifiers -> {
+                    fetchedIdentifiers.add(List.copyOf(identifiers));
+                    return Map.of("20", getGame("20", 30));
+                });
+
+        assertThat(fetchedIdentifiers).containsExactly(List.of("20", "30"));
+        assertThat(discountedGames).containsOnlyKeys("10", "20");
+        assertThat(discountedGames.get("10").getDiscountPercent()).isEqualTo(40);
+        assertThat(discountRunGameRepository.count()).isEqualTo(3);
+
+        discountRunService.getDiscountedGames(RUN_KEY, GamePlatform.STEAM, List.of("10", "20", "30"), identifiers -> {
+            fetchedIdentifiers.add(List.copyOf(identifiers));
+            return Map.of();
+        });
+
+        assertThat(fetchedIdentifiers).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Notifica apenas descontos novos ou maiores que o último notificado")
+    void shouldNotifyOnlyNewOrDeeperDiscounts() {
+        User user = userRepository.save(User.builder()
+                .name("subscriber")
+                .email("subscriber@example.com")
+                .password("123456")
+                .emailVerified(true)
+                .notificationsEnabled(true)
+                .build());
+        GameId newDiscount = new GameId(user.getId(), "10", GamePlatform.STEAM);
+        GameId deeperDiscount = new GameId(user.getId(), "20", GamePlatform.STEAM);
+        GameId unchangedDiscount = new GameId(user.getId(), "30", GamePlatform.STEAM);
+        GameId undiscounted = new GameId(user.getId(), "40", GamePlatform.STEAM);
+
+        gamesRepository.saveAll(List.of(
+                new Game(newDiscount, user),
+                new Game(deeperDiscount, user),
+                new Game(unchangedDiscount, user),
+                new Game(undiscounted, user)
+        ));
+        gameNotificationRepository.saveAll(List.of(
+                GameNotification.builder().id(deeperDiscount).discountPercent(20).build(),
+                GameNotification.builder().id(unchangedDiscount).discountPercent(40).build()
+        ));
+        discountRunGameRepository.saveAll(List.of(
+                getRunGame("10", 40),
+                getRunGame("20", 40),
+                getRunGame("30", 40),
+                DiscountRunGame.builder()
+                        .id(new DiscountRunGameId(RUN_KEY, "40", GamePlatform.STEAM))
+                        .discounted(false)
+                        .build()
+        ));
+
+        List<GameId> gameIdsToNotify = discountRunService.getGameIdsToNotify(RUN_KEY, List.of(user.getId()));
+
+        assertThat(gameIdsToNotify).containsExactlyInAnyOrder(newDiscount, deeperDiscount);
+    }
+
+    @Test
+    @DisplayName("Mantém o checkpoint gravado por outro nó e devolve a partição inteira")
+    void shouldKeepConcurrentCheckpointAndReturnWholePartition() {
+        Map<String, GenericGame> discountedGames = discountRunService.getDiscountedGames(
+                RUN_KEY, GamePlatform.STEAM, List.of("10", "20"), identifiers -> {
+                    discountRunGameRepository.saveAndFlush(getRunGame("10", 40));
+                    return Map.of("10", getGame("10", 50), "20", getGame("20", 30));
+                });
+
+        assertThat(discountedGames).containsOnlyKeys("10", "20");
+        assertThat(discountedGames.get("10").getDiscountPercent()).isEqualTo(40);
+        assertThat(discountedGames.get("20").getDiscountPercent()).isEqualTo(30);
+        assertThat(discountRunGameRepository.count()).isEqualTo(2);
+    }
+
+    private DiscountRunGame getRunGame(String identifier, int discountPercent) {
+        return DiscountRunGame.builder()
+                .id(new DiscountRunGameId(RUN_KEY, identifier, GamePlatform.STEAM))
+                .discounted(true)
+                .gameIdentifier(identifier)
+                .title("Game " + identifier)
+                .initialPrice(100.0)
+                .discountPrice(100.0 - discountPercent)
+                .discountPercent(discountPercent)
+                .build();
+    }
+
+    private GenericGame getGame(String identifier, int discountPercent) {
+        return new GenericGame(identifier, "Game " + identifier, null, null, GamePlatform.STEAM,
+                100, 100 - discountPercent, discountPercent, false);
+    }
+}
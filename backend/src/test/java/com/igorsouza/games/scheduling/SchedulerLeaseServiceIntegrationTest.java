@@ -0,0 +1,89 @@
+package com.igorsouza.games.scheduling;
+
+import com.igorsouza.games.enums.SchedulerLeaseStatus;
+import com.igorsouza.games.models.SchedulerLease;
+import com.igorsouza.games.repositories.SchedulerLeaseRepository;
+import com.igorsouza.games.services.scheduling.SchedulerLeaseService;
+import com.igorsouza.games.services.scheduling.SchedulerLeaseServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scheduler-lease-test",
+        "app.discount-warning.lease-sweep-interval=1h"
+})
+@ActiveProfiles("test")
+public class SchedulerLeaseServiceIntegrationTest {
+
+    private static final String RUN_KEY = "discount-warning:lease-test";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(15);
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private SchedulerLeaseService firstNode;
+    private SchedulerLeaseService secondNode;
+
+    @BeforeEach
+    void setUp() {
+        firstNode = new SchedulerLeaseServiceImpl(schedulerLeaseRepository);
+        secondNode = new SchedulerLeaseServiceImpl(schedulerLeaseRepository);
+    }
+
+    @AfterEach
+    void cleanup() {
+        schedulerLeaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Concede o lease a um único nó enquanto ele estiver válido")
+    void shouldGrantLeaseToSingleNode() {
+        assertThat(firstNode.tryAcquire(RUN_KEY, 0, LEASE_DURATION)).isTrue();
+        assertThat(secondNode.tryAcquire(RUN_KEY, 0, LEASE_DURATION)).isFalse();
+        assertThat(secondNode.renew(RUN_KEY, 0, LEASE_DURATION)).isFalse();
+        assertThat(firstNode.renew(RUN_KEY, 0, LEASE_DURATION)).isTrue();
+        assertThat(getExpiredLeases()).isZero();
+    }
+
+    @Test
+    @DisplayName("Permite que outro nó assuma um lease expirado")
+    void shouldTakeOverExpiredLease() {
+        assertThat(firstNode.tryAcquire(RUN_KEY, 0, LEASE_DURATION)).isTrue();
+        firstNode.release(RUN_KEY, 0);
+
+        assertThat(getExpiredLeases()).isEqualTo(1);
+        assertThat(secondNode.tryAcquire(RUN_KEY, 0, LEASE_DURATION)).isTrue();
+        assertThat(firstNode.renew(RUN_KEY, 0, LEASE_DURATION)).isFalse();
+        assertThat(getExpiredLeases()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não devolve nem reatribui um lease concluído")
+    void shouldNotReacquireCompletedLease() {
+        assertThat(firstNode.tryAcquire(RUN_KEY, 0, Duration.ZERO)).isTrue();
+        firstNode.complete(RUN_KEY, 0);
+
+        assertThat(schedulerLeaseRepository.findAll())
+                .filteredOn(lease -> lease.getRunKey().equals(RUN_KEY))
+                .extracting(SchedulerLease::getStatus)
+                .containsExactly(SchedulerLeaseStatus.COMPLETED);
+        assertThat(getExpiredLeases()).isZero();
+        assertThat(secondNode.tryAcquire(RUN_KEY, 0, LEASE_DURATION)).isFalse();
+        assertThat(firstNode.renew(RUN_KEY, 0, LEASE_DURATION)).isFalse();
+    }
+
+    private long getExpiredLeases() {
+        return firstNode.getExpiredLeases().stream()
+                .filter(lease -> lease.getRunKey().equals(RUN_KEY))
+                .count();
+    }
+}
@@ -81,7 +81,8 @@ public class WishlistControllerTest {
                 GamePlatform.STEAM,
                 0.0,
                 0.0,
-                0
+                0,
+                false
         );
         when(wishlistService.getAuthenticatedUserGames()).thenReturn(List.of(game));
 
@@ -132,6 +133,20 @@ public class WishlistControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("POST /wishlist - Deve retornar 400 para plataforma inválida")
+    void shouldReturnBadRequestWhenAddingGameWithUnknownPlatform() throws Exception {
+        mockMvc.perform(post("/wishlist")
+                        .with(csrf())
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"platformIdentifier\":\"456\",\"platform\":\"ALL\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(wishlistService, never()).addGame(any(WishlistGame.class));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("POST /wishlist - Deve retornar conflito ao adicionar jogo duplicado")
@@ -29,6 +29,12 @@ export default function GameCard({
       <div className="p-5 flex flex-col gap-2 text-center">
         <h2 className="text-white font-semibold text-xl mb-2">{game.title}</h2>
 
+        {game.stale && (
+          <p className="text-sm text-zinc-400">
+            Loja indisponível no momento. Preços podem estar desatualizados.
+          </p>
+        )}
+
         {game.initialPrice === 0 ? (
           <p className="text-green-400 font-semibold">Gratuito</p>
         ) : (
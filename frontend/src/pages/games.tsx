@@ -11,6 +11,8 @@ export default function Games() {
   const [search, setSearch] = useState<string>("");
   const [gameStore, setGameStore] = useState<string>("steam");
   const [loading, setLoading] = useState<boolean>(false);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [searchedGame, setSearchedGame] = useState<string>("");
   const [searchedGameStore, setSearchedGameStore] = useState<
     "Steam" | "Epic Games Store"
   >("Steam");
@@ -36,6 +38,8 @@ export default function Games() {
       );
 
       setGames(response.data);
+      setSearchedGame(search);
+      setNextCursor(response.headers["x-next-cursor"] ?? null);
     } catch (error) {
       console.error(error);
       toast.error(
@@ -48,6 +52,27 @@ export default function Games() {
     }
   }
 
+  async function loadMoreGames() {
+    try {
+      setLoading(true);
+
+      const response = await axios.get(`/games/${searchedGameStore === "Steam" ? "steam" : "epic"}`, {
+        params: { gameName: searchedGame, cursor: nextCursor },
+        headers: {
+          Authorization: `Bearer ${authData!.token}`,
+        },
+      });
+
+      setGames((currentGames) => [...(currentGames ?? []), ...response.data]);
+      setNextCursor(response.headers["x-next-cursor"] ?? null);
+    } catch (error) {
+      console.error(error);
+      toast.error(`Ocorreu um erro ao buscar mais jogos da ${searchedGameStore}.`);
+    } finally {
+      setLoading(false);
+    }
+  }
+
   async function addGameToWishlist(game: Game) {
     try {
       setLoading(true);
@@ -143,6 +168,18 @@ export default function Games() {
             />
           ))
         )}
+
+        {nextCursor && (
+          <button
+            disabled={loading}
+            onClick={loadMoreGames}
+            className={`px-3 py-2 rounded-lg bg-white text-black font-semibold transition ${
+              loading ? "opacity-70" : "cursor-pointer hover:bg-gray-300"
+            }`}
+          >
+            Carregar mais
+          </button>
+        )}
       </div>
     </div>
   );
@@ -1,11 +1,13 @@
 import { FormEvent, useState } from "react";
-import { Review } from "../types/review";
+import { Review, ReviewJob } from "../types/review";
 import { useAuth } from "../hooks/use-auth";
 import axios from "../lib/axios";
 import { AxiosError } from "axios";
 import toast from "react-hot-toast";
 import WriteReview from "../components/write-review";
 
+const REVIEW_JOB_POLL_INTERVAL = 3000;
+
 export default function Reviews() {
   const [gameName, setGameName] = useState<string>("");
   const [searchedGame, setSearchedGame] = useState<string | null>(null);
@@ -61,7 +63,31 @@ export default function Reviews() {
         }
       );
 
-      setReview(response.data);
+      let reviewJob: ReviewJob = response.data;
+
+      while (reviewJob.status === "PENDING" || reviewJob.status === "RUNNING") {
+        await new Promise((resolve) =>
+          setTimeout(resolve, REVIEW_JOB_POLL_INTERVAL)
+        );
+
+        const jobResponse = await axios.get(
+          `/games/review-jobs/${reviewJob.id}`,
+          {
+            headers: {
+              Authorization: `Bearer ${authData!.token}`,
+            },
+          }
+        );
+
+        reviewJob = jobResponse.data;
+      }
+
+      if (reviewJob.status === "FAILED") {
+        toast.error("Ocorreu um erro ao gerar a review do jogo.");
+        return;
+      }
+
+      setReview(reviewJob.review);
     } catch (error) {
       console.error(error);
       toast.error("Ocorreu um erro ao gerar a review do jogo.");
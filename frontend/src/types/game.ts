@@ -7,4 +7,5 @@ export type Game = {
   initialPrice: number;
   discountPrice: number;
   discountPercent: number;
+  stale?: boolean;
 };
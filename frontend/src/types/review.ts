@@ -5,3 +5,11 @@ export type Review = {
   createdAt: Date;
   updatedAt: Date;
 };
+
+export type ReviewJob = {
+  id: string;
+  gameName: string;
+  status: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+  review: Review | null;
+  error: string | null;
+};